@@ -0,0 +1,241 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import src.CampusMap;
+import src.CsrGraph;
+import src.RoutingProfile;
+
+/**
+ * Shared fixtures for the benchmarks: the bundled campus graph and seeded
+ * query workloads over it.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class BenchmarkData {
+
+    /** Seed for every generated workload, so runs are comparable */
+    static final long SEED = 4804L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Reads the bundled graphUpdated.json into memory
+     *
+     * @return file contents
+     * @throws IOException if the resource cannot be read
+     */
+    static byte[] graphBytes() throws IOException {
+        try (InputStream in = BenchmarkData.class.getResourceAsStream("/graphUpdated.json")) {
+            if (in == null) {
+                throw new IOException("Resource not found: graphUpdated.json");
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Opens a reader over an in-memory copy of the graph file
+     *
+     * @param bytes file contents
+     * @return reader
+     */
+    static Reader reader(byte[] bytes) {
+        return new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Loads the bundled campus map
+     *
+     * @return loaded map
+     * @throws Exception if loading fails
+     */
+    static CampusMap loadCampusMap() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJson(reader(graphBytes()));
+        return map;
+    }
+
+    /**
+     * Generates seeded random origin/destination node id pairs
+     *
+     * @param map the map to draw node ids from
+     * @param count number of pairs
+     * @return array of {origin, destination} pairs
+     */
+    static int[][] randomPairs(CampusMap map, int count) {
+        Random random = new Random(SEED);
+        int[][] pairs = new int[count][2];
+        for (int[] pair : pairs) {
+            pair[0] = random.nextInt(map.getNodeCount());
+            pair[1] = random.nextInt(map.getNodeCount());
+        }
+        return pairs;
+    }
+
+    /**
+     * Generates seeded random origin/destination pairs that do not depend on
+     * how the map numbers its nodes: nodes are drawn by their rank in
+     * latitude, then longitude order, so maps of the same file loaded in
+     * different node orders get the same queries
+     *
+     * @param map the map to draw nodes from
+     * @param count number of pairs
+     * @return array of {origin, destination} node id pairs
+     */
+    static int[][] randomPairsByPosition(CampusMap map, int count) {
+        CsrGraph graph = map.getGraph();
+        Integer[] byPosition = new Integer[graph.nodeCount()];
+        Arrays.setAll(byPosition, i -> i);
+        Arrays.sort(byPosition, Comparator.<Integer>comparingDouble(graph::latitude)
+                .thenComparingDouble(graph::longitude));
+        Random random = new Random(SEED);
+        int[][] pairs = new int[count][2];
+        for (int[] pair : pairs) {
+            pair[0] = byPosition[random.nextInt(byPosition.length)];
+            pair[1] = byPosition[random.nextInt(byPosition.length)];
+        }
+        return pairs;
+    }
+
+    /**
+     * Writes a synthetic map to a CSV path export: a tiles by tiles grid of
+     * shifted copies of the campus graph, with neighboring copies of a few
+     * nodes of the campus's main component joined by edges so most of the
+     * grid is one component
+     *
+     * @param campus the loaded campus map
+     * @param tiles copies along each side
+     * @return the temporary CSV file; the caller deletes it
+     * @throws IOException if writing fails
+     */
+    static Path writeTiledCsv(CampusMap campus, int tiles) throws IOException {
+        CsrGraph graph = campus.getGraph();
+        int nodeCount = graph.nodeCount();
+        double minLatitude = Double.POSITIVE_INFINITY;
+        double maxLatitude = Double.NEGATIVE_INFINITY;
+        double minLongitude = Double.POSITIVE_INFINITY;
+        double maxLongitude = Double.NEGATIVE_INFINITY;
+        for (int u = 0; u < nodeCount; u++) {
+            minLatitude = Math.min(minLatitude, graph.latitude(u));
+            maxLatitude = Math.max(maxLatitude, graph.latitude(u));
+            minLongitude = Math.min(minLongitude, graph.longitude(u));
+            maxLongitude = Math.max(maxLongitude, graph.longitude(u));
+        }
+        double latitudeStep = (maxLatitude - minLatitude) * 1.05;
+        double longitudeStep = (maxLongitude - minLongitude) * 1.05;
+
+        // Anchors: nodes connected to the node most of a random sample reaches
+        Random random = new Random(SEED);
+        int[] sample = random.ints(64, 0, nodeCount).toArray();
+        int hub = sample[0];
+        int hubReach = -1;
+        for (int candidate : sample) {
+            int reach = 0;
+            for (int other : sample) {
+                reach += campus.isConnected(campus.getNode(candidate), campus.getNode(other),
+                        RoutingProfile.FASTEST) ? 1 : 0;
+            }
+            if (reach > hubReach) {
+                hub = candidate;
+                hubReach = reach;
+            }
+        }
+        int[] anchors = new int[4];
+        anchors[0] = hub;
+        for (int i = 1; i < anchors.length; i++) {
+            do {
+                anchors[i] = random.nextInt(nodeCount);
+            } while (!campus.isConnected(campus.getNode(hub), campus.getNode(anchors[i]), RoutingProfile.FASTEST));
+        }
+
+        // Records: every campus edge, then the east and north bridge of every anchor
+        int[] first = new int[graph.arcCount() / 2 + 2 * anchors.length];
+        int[] second = new int[first.length];
+        double[] lengths = new double[first.length];
+        int edges = 0;
+        for (int u = 0; u < nodeCount; u++) {
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                if (graph.target(arc) > u) {
+                    first[edges] = u;
+                    second[edges] = graph.target(arc);
+                    lengths[edges++] = graph.weight(arc);
+                }
+            }
+        }
+        int perTile = edges + 2 * anchors.length;
+
+        // Records go out in a seeded random order, as a large export sorted
+        // by way id has no spatial order
+        int recordCount = tiles * tiles * perTile;
+        int[] records = new int[recordCount];
+        Arrays.setAll(records, i -> i);
+        for (int i = recordCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = records[i];
+            records[i] = records[j];
+            records[j] = t;
+        }
+
+        Path file = Files.createTempFile("tiled", ".csv");
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("start_node,end_node,length\n");
+            for (int record : records) {
+                int tile = record / perTile;
+                int index = record % perTile;
+                int row = tile / tiles;
+                int column = tile % tiles;
+                double dLatitude = row * latitudeStep;
+                double dLongitude = column * longitudeStep;
+                if (index < edges) {
+                    writeRow(out, graph, first[index], dLatitude, dLongitude, second[index], dLatitude,
+                            dLongitude, Double.toString(lengths[index]));
+                    continue;
+                }
+                int anchor = anchors[(index - edges) / 2];
+                boolean east = (index - edges) % 2 == 0;
+                if (east && column + 1 < tiles) {
+                    writeRow(out, graph, anchor, dLatitude, dLongitude, anchor, dLatitude,
+                            dLongitude + longitudeStep, "");
+                } else if (!east && row + 1 < tiles) {
+                    writeRow(out, graph, anchor, dLatitude, dLongitude, anchor, dLatitude + latitudeStep,
+                            dLongitude, "");
+                }
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Writes one record between shifted copies of two nodes; an empty length
+     * lets the importer use the straight-line distance
+     */
+    private static void writeRow(Writer out, CsrGraph graph, int u, double uLatitude, double uLongitude, int v,
+            double vLatitude, double vLongitude, String length) throws IOException {
+        out.write("\"" + (graph.longitude(u) + uLongitude) + "," + (graph.latitude(u) + uLatitude) + "\",\""
+                + (graph.longitude(v) + vLongitude) + "," + (graph.latitude(v) + vLatitude) + "\"," + length
+                + "\n");
+    }
+
+    /**
+     * Silences stdout, which the application still uses for logging
+     */
+    static void muteStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
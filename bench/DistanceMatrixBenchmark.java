@@ -0,0 +1,73 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.DistanceMatrix;
+import src.Pathfinder;
+
+/**
+ * Compares a size x size origin/destination matrix computed with
+ * DistanceMatrix against one Pathfinder.aStarSearch call per pair.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistanceMatrixBenchmark {
+
+    @Param({"16", "64"})
+    public int size;
+
+    private CampusMap map;
+    private int[] sources;
+    private int[] targets;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = BenchmarkData.loadCampusMap();
+        Random random = new Random(BenchmarkData.SEED);
+        sources = new int[size];
+        targets = new int[size];
+        for (int i = 0; i < size; i++) {
+            sources[i] = random.nextInt(map.getNodeCount());
+            targets[i] = random.nextInt(map.getNodeCount());
+        }
+    }
+
+    @Benchmark
+    public double[] matrix() {
+        return DistanceMatrix.compute(map, sources, targets).getDistances();
+    }
+
+    @Benchmark
+    public double[] pairwise() {
+        double[] distances = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                distances[i * size + j] = Pathfinder.aStarSearch(map.getNode(sources[i]),
+                        map.getNode(targets[j]), map).getDistance();
+            }
+        }
+        return distances;
+    }
+}
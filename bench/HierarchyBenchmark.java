@@ -0,0 +1,72 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.ContractionHierarchy;
+import src.Pathfinder;
+import src.SearchOptions;
+
+/**
+ * Measures Contraction Hierarchy queries on the same seeded pairs as
+ * PathfinderBenchmark. The hierarchy is built once in setup.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HierarchyBenchmark {
+
+    private static final int PAIR_COUNT = 1024;
+
+    private CampusMap map;
+    private int[][] pairs;
+    private SearchOptions options;
+    private int next;
+    private long queries;
+    private long settledNodes;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = BenchmarkData.loadCampusMap();
+        map.setContractionHierarchy(ContractionHierarchy.build(map.getGraph()));
+        pairs = BenchmarkData.randomPairs(map, PAIR_COUNT);
+        options = SearchOptions.DEFAULT.withEngine(SearchOptions.Engine.CONTRACTION_HIERARCHY);
+        next = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.err.printf("CONTRACTION_HIERARCHY: %.1f settled nodes per query%n",
+                queries == 0 ? 0.0 : (double) settledNodes / queries);
+    }
+
+    @Benchmark
+    public Pathfinder.PathResult query() {
+        int[] pair = pairs[next];
+        next = (next + 1) % PAIR_COUNT;
+        Pathfinder.PathResult result = Pathfinder.aStarSearch(map.getNode(pair[0]), map.getNode(pair[1]),
+                map, options);
+        queries++;
+        settledNodes += result.getSettledNodes();
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+
+/**
+ * Measures the CampusMap loaders on the bundled graphUpdated.json: the
+ * streaming loadFromJson against the Gson tree based loadFromJsonTree, and
+ * loadFromSnapshot on a snapshot written from the same file. The JSON is
+ * read into memory once so only parsing and indexing are timed.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    private byte[] graphBytes;
+    private Path snapshot;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        graphBytes = BenchmarkData.graphBytes();
+        snapshot = Files.createTempFile("campus", ".snapshot");
+        BenchmarkData.loadCampusMap().saveSnapshot(snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public CampusMap loadFromJson() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJson(BenchmarkData.reader(graphBytes));
+        return map;
+    }
+
+    @Benchmark
+    public CampusMap loadFromJsonTree() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJsonTree(BenchmarkData.reader(graphBytes));
+        return map;
+    }
+
+    @Benchmark
+    public CampusMap loadFromSnapshot() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromSnapshot(snapshot);
+        return map;
+    }
+}
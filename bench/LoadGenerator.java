@@ -0,0 +1,176 @@
+package bench;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import src.CampusMap;
+import src.Node;
+import src.RoutingServer;
+
+/**
+ * Closed-loop load test of the HTTP routing service. Client threads send
+ * /route requests for seeded random node pairs back to back, and the run
+ * reports sustained requests per second and the latency distribution.
+ * Without --url an in-process server is started on a free port.
+ * Usage:
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar bench.LoadGenerator [--url http://host:port]
+ *        [--threads 32] [--seconds 20] [--warmup 5] [--pairs 100000]
+ * </pre>
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int threads = 32;
+        int seconds = 20;
+        int warmup = 5;
+        int pairCount = 100000;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url": url = args[i + 1]; break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--seconds": seconds = Integer.parseInt(args[i + 1]); break;
+                case "--warmup": warmup = Integer.parseInt(args[i + 1]); break;
+                case "--pairs": pairCount = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        BenchmarkData.muteStdout();
+        CampusMap map = BenchmarkData.loadCampusMap();
+        RoutingServer server = null;
+        if (url == null) {
+            server = new RoutingServer(map, 0);
+            server.start();
+            url = "http://localhost:" + server.getPort();
+        }
+        URI[] requests = requestUris(map, url, pairCount);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.err.printf("Warming up for %d s with %d threads against %s%n", warmup, threads, url);
+        run(client, requests, threads, warmup);
+        System.err.printf("Measuring for %d s%n", seconds);
+        Result result = run(client, requests, threads, seconds);
+        result.print(System.err);
+
+        if (server != null) {
+            server.stop(1);
+        }
+    }
+
+    private static URI[] requestUris(CampusMap map, String url, int count) {
+        int[][] pairs = BenchmarkData.randomPairs(map, count);
+        URI[] uris = new URI[count];
+        for (int i = 0; i < count; i++) {
+            Node from = map.getNode(pairs[i][0]);
+            Node to = map.getNode(pairs[i][1]);
+            uris[i] = URI.create(url + "/route?from=" + from.getX() + "," + from.getY()
+                    + "&to=" + to.getX() + "," + to.getY());
+        }
+        return uris;
+    }
+
+    private static Result run(HttpClient client, URI[] requests, int threadCount, int seconds)
+            throws InterruptedException {
+        AtomicLong nextRequest = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[threadCount][];
+        int[] counts = new int[threadCount];
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                long[] samples = new long[4096];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    URI uri = requests[(int) (nextRequest.getAndIncrement() % requests.length)];
+                    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(request,
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[index] = samples;
+                counts[index] = count;
+            }, "load-" + t);
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int position = 0;
+        for (int t = 0; t < threadCount; t++) {
+            System.arraycopy(latencies[t], 0, all, position, counts[t]);
+            position += counts[t];
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get(), seconds);
+    }
+
+    /**
+     * Sorted latencies of one run
+     */
+    private static final class Result {
+
+        private final long[] latencies;
+        private final long errors;
+        private final int seconds;
+
+        Result(long[] latencies, long errors, int seconds) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.seconds = seconds;
+        }
+
+        void print(PrintStream out) {
+            out.printf("requests %d, errors %d, %.0f req/s%n", latencies.length, errors,
+                    latencies.length / (double) seconds);
+            if (latencies.length == 0) {
+                return;
+            }
+            out.printf("latency ms: p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f  max %.3f%n",
+                    percentile(0.50), percentile(0.90), percentile(0.99), percentile(0.999),
+                    latencies[latencies.length - 1] / 1e6);
+        }
+
+        private double percentile(double p) {
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
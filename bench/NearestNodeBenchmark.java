@@ -0,0 +1,101 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.Node;
+
+/**
+ * Measures snapping a lat/long point to the nearest graph node, the lookup
+ * CampusGUI.MapPanel.findNearestNode performs on every click. Query points
+ * are seeded and drawn from the bounding box of the graph. The linear scan
+ * is the GUI's original lookup, kept as the baseline for the spatial index.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NearestNodeBenchmark {
+
+    private static final int POINT_COUNT = 1024;
+
+    private CampusMap map;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = BenchmarkData.loadCampusMap();
+
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (Node node : map.getNodes()) {
+            minLat = Math.min(minLat, node.getX());
+            maxLat = Math.max(maxLat, node.getX());
+            minLon = Math.min(minLon, node.getY());
+            maxLon = Math.max(maxLon, node.getY());
+        }
+
+        Random random = new Random(BenchmarkData.SEED);
+        latitudes = new double[POINT_COUNT];
+        longitudes = new double[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            latitudes[i] = minLat + random.nextDouble() * (maxLat - minLat);
+            longitudes[i] = minLon + random.nextDouble() * (maxLon - minLon);
+        }
+        next = 0;
+    }
+
+    /**
+     * Linear scan over every node
+     */
+    @Benchmark
+    public Node linearScan() {
+        double latitude = latitudes[next];
+        double longitude = longitudes[next];
+        next = (next + 1) % POINT_COUNT;
+
+        Node nearest = null;
+        double minDistance = Double.MAX_VALUE;
+        for (Node node : map.getNodes()) {
+            double distance = Math.sqrt(
+                    Math.pow(latitude - node.getX(), 2) +
+                            Math.pow(longitude - node.getY(), 2));
+            if (distance < minDistance) {
+                minDistance = distance;
+                nearest = node;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Grid lookup through the map's spatial index
+     */
+    @Benchmark
+    public Node spatialIndex() {
+        double latitude = latitudes[next];
+        double longitude = longitudes[next];
+        next = (next + 1) % POINT_COUNT;
+        return map.findNearestNode(latitude, longitude);
+    }
+}
@@ -0,0 +1,104 @@
+package bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.CsrGraph;
+import src.NodeOrder;
+import src.Pathfinder;
+
+/**
+ * Measures how the node numbering affects A* query latency, on the campus
+ * graph (tiles = 1) and on a synthetic map of tiles by tiles shifted copies
+ * of it (tiles = 10 is 100 times larger). The queries are the same node
+ * pairs in every order. How far apart the ids at the ends of an arc are,
+ * a proxy for how far apart in memory a relaxation reaches, is printed to
+ * stderr at the end of each trial; run with -prof perfnorm on Linux to
+ * count cache misses per query.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class NodeOrderBenchmark {
+
+    private static final int PAIR_COUNT = 256;
+    private static final int NEAR_IDS = 8;      // doubles per 64-byte cache line
+    private static final int FAR_IDS = 512;     // doubles per 4 KB page
+
+    @Param({"INPUT", "MORTON", "HILBERT"})
+    public NodeOrder order;
+
+    @Param({"1", "10"})
+    public int tiles;
+
+    private CampusMap map;
+    private int[][] pairs;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = new CampusMap();
+        map.setNodeOrder(order);
+        if (tiles == 1) {
+            map.loadFromJson(BenchmarkData.reader(BenchmarkData.graphBytes()));
+        } else {
+            CampusMap campus = new CampusMap();
+            campus.setNodeOrder(NodeOrder.INPUT);
+            campus.loadFromJson(BenchmarkData.reader(BenchmarkData.graphBytes()));
+            Path csv = BenchmarkData.writeTiledCsv(campus, tiles);
+            try {
+                map.loadFromCsv(csv);
+            } finally {
+                Files.deleteIfExists(csv);
+            }
+        }
+        pairs = BenchmarkData.randomPairsByPosition(map, PAIR_COUNT);
+        next = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        CsrGraph graph = map.getGraph();
+        long near = 0;
+        long far = 0;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int gap = Math.abs(graph.target(arc) - u);
+                near += gap < NEAR_IDS ? 1 : 0;
+                far += gap >= FAR_IDS ? 1 : 0;
+            }
+        }
+        double arcs = Math.max(1, graph.arcCount());
+        System.err.printf("%s/%d: %d nodes, %.1f%% of arcs within %d ids, %.1f%% %d or more apart%n", order, tiles,
+                graph.nodeCount(), 100 * near / arcs, NEAR_IDS, 100 * far / arcs, FAR_IDS);
+    }
+
+    @Benchmark
+    public Pathfinder.PathResult aStarSearch() {
+        int[] pair = pairs[next];
+        next = (next + 1) % PAIR_COUNT;
+        return Pathfinder.aStarSearch(map.getNode(pair[0]), map.getNode(pair[1]), map);
+    }
+}
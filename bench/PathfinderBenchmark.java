@@ -0,0 +1,88 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.Pathfinder;
+import src.RoutingProfile;
+import src.SearchOptions;
+
+/**
+ * Measures Pathfinder.aStarSearch over a fixed, seeded set of random
+ * origin/destination pairs on the campus graph. Each invocation answers the
+ * next pair of the workload. The average number of settled nodes per query
+ * is printed to stderr at the end of each trial.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfinderBenchmark {
+
+    private static final int PAIR_COUNT = 1024;
+
+    @Param({"PRIORITY_QUEUE", "BINARY_HEAP", "QUATERNARY_HEAP"})
+    public SearchOptions.OpenListType openList;
+
+    @Param({"UNIDIRECTIONAL", "BIDIRECTIONAL"})
+    public SearchOptions.Direction direction;
+
+    @Param({"EQUIRECTANGULAR", "HAVERSINE", "ALT"})
+    public SearchOptions.HeuristicType heuristic;
+
+    // Other profiles with -p profile=WHEELCHAIR,PAVED_ONLY
+    @Param({"FASTEST"})
+    public RoutingProfile profile;
+
+    private CampusMap map;
+    private int[][] pairs;
+    private SearchOptions options;
+    private int next;
+    private long queries;
+    private long settledNodes;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = BenchmarkData.loadCampusMap();
+        pairs = BenchmarkData.randomPairs(map, PAIR_COUNT);
+        options = SearchOptions.DEFAULT.withOpenList(openList).withDirection(direction)
+                .withHeuristic(heuristic).withProfile(profile);
+        next = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.err.printf("%s/%s/%s/%s: %.1f settled nodes per query%n", openList, direction,
+                heuristic, profile, queries == 0 ? 0.0 : (double) settledNodes / queries);
+    }
+
+    @Benchmark
+    public Pathfinder.PathResult aStarSearch() {
+        int[] pair = pairs[next];
+        next = (next + 1) % PAIR_COUNT;
+        Pathfinder.PathResult result = Pathfinder.aStarSearch(map.getNode(pair[0]), map.getNode(pair[1]),
+                map, options);
+        queries++;
+        settledNodes += result.getSettledNodes();
+        return result;
+    }
+}
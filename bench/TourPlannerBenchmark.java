@@ -0,0 +1,83 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import src.CampusMap;
+import src.Node;
+import src.RoutingProfile;
+import src.TourPlanner;
+
+/**
+ * Measures TourPlanner.plan on seeded random stops of the campus's main
+ * component, from the distance table through the local search to the
+ * stitched path.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TourPlannerBenchmark {
+
+    @Param({"10", "50"})
+    public int stops;
+
+    @Param({"FIXED", "FREE", "ROUND_TRIP"})
+    public TourPlanner.Order order;
+
+    private CampusMap map;
+    private List<Node> tourStops;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkData.muteStdout();
+        map = BenchmarkData.loadCampusMap();
+        Random random = new Random(BenchmarkData.SEED);
+
+        // A node most random nodes can reach lies in the main component
+        Node hub;
+        int reached;
+        do {
+            hub = map.getNode(random.nextInt(map.getNodeCount()));
+            reached = 0;
+            for (int i = 0; i < 16; i++) {
+                reached += isReachable(hub, map.getNode(random.nextInt(map.getNodeCount()))) ? 1 : 0;
+            }
+        } while (reached < 8);
+        tourStops = new ArrayList<>(stops);
+        while (tourStops.size() < stops) {
+            Node stop = map.getNode(random.nextInt(map.getNodeCount()));
+            if (isReachable(hub, stop)) {
+                tourStops.add(stop);
+            }
+        }
+    }
+
+    private boolean isReachable(Node a, Node b) {
+        return map.isConnected(a, b, RoutingProfile.FASTEST);
+    }
+
+    @Benchmark
+    public TourPlanner.Tour plan() {
+        return TourPlanner.plan(map, tourStops, order);
+    }
+}
@@ -0,0 +1,244 @@
+package src;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+import javax.swing.SwingUtilities;
+
+/**
+ * The map image drawn from the tile pyramid written by TileSlicer. Each
+ * repaint picks the coarsest level that still has a pixel per screen pixel
+ * and draws the visible tiles of it. Missing tiles are decoded on a
+ * background thread and kept in a least recently used cache bounded in
+ * bytes; until a tile arrives, the part of a coarser cached tile covering it
+ * is stretched in its place. Used from the event dispatch thread only.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class BasemapLayer {
+
+    /** Classpath directory of the tile pyramid */
+    static final String RESOURCE_DIRECTORY = "/map_tiles/";
+
+    private static final long MEMORY_BUDGET = 48L << 20;   // decoded tile bytes
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    // - Fields
+
+    private final MapProjection projection;
+    private final Runnable repaint;     // called when a tile has arrived
+    private final int width;            // level 0 image width in pixels
+    private final int height;           // level 0 image height in pixels
+    private final int tileSize;
+    private final int levels;
+    private final LinkedHashMap<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();    // tiles requested and still wanted
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "map-tiles");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long bytes;                 // decoded size of the cached tiles
+
+    // - Constructor(s)
+
+    private BasemapLayer(Properties manifest, MapProjection projection, Runnable repaint) {
+        this.projection = projection;
+        this.repaint = repaint;
+        this.width = Integer.parseInt(manifest.getProperty("width"));
+        this.height = Integer.parseInt(manifest.getProperty("height"));
+        this.tileSize = Integer.parseInt(manifest.getProperty("tileSize"));
+        this.levels = Integer.parseInt(manifest.getProperty("levels"));
+        // The single top tile is the placeholder of last resort
+        request(levels - 1, 0, 0);
+    }
+
+    // - Methods
+
+    /**
+     * Opens the tile pyramid bundled on the classpath
+     *
+     * @param projection projection the tiles were cut from
+     * @param repaint called on the event dispatch thread when a tile arrives
+     * @return the layer, or null if no pyramid is bundled
+     */
+    static BasemapLayer open(MapProjection projection, Runnable repaint) {
+        try (InputStream in = BasemapLayer.class.getResourceAsStream(RESOURCE_DIRECTORY + TileSlicer.MANIFEST)) {
+            if (in == null) {
+                return null;
+            }
+            Properties manifest = new Properties();
+            manifest.load(in);
+            return new BasemapLayer(manifest, projection, repaint);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading map tiles: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Draws the visible part of the map image
+     *
+     * @param g graphics of the component, without the map transform
+     * @param clip visible area in component pixels
+     * @param scale map pixels to screen pixels
+     * @param offsetX map x translation applied before scaling
+     * @param offsetY map y translation applied before scaling
+     */
+    void paint(Graphics2D g, Rectangle clip, double scale, double offsetX, double offsetY) {
+        double pixelX = scale * projection.getWidth() / width;     // screen pixels per level 0 pixel
+        double pixelY = scale * projection.getHeight() / height;
+        int level = 0;
+        while (level < levels - 1 && (2 << level) * Math.min(pixelX, pixelY) <= 1) {
+            level++;
+        }
+        pixelX *= 1 << level;
+        pixelY *= 1 << level;
+        int levelWidth = ceilDiv(width, 1 << level);
+        int levelHeight = ceilDiv(height, 1 << level);
+
+        double originX = offsetX * scale;
+        double originY = offsetY * scale;
+        int firstColumn = Math.max(0, (int) Math.floor((clip.x - originX) / (pixelX * tileSize)));
+        int lastColumn = Math.min(ceilDiv(levelWidth, tileSize) - 1,
+                (int) Math.floor((clip.x + clip.width - originX) / (pixelX * tileSize)));
+        int firstRow = Math.max(0, (int) Math.floor((clip.y - originY) / (pixelY * tileSize)));
+        int lastRow = Math.min(ceilDiv(levelHeight, tileSize) - 1,
+                (int) Math.floor((clip.y + clip.height - originY) / (pixelY * tileSize)));
+
+        Set<Long> visible = new HashSet<>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int x = column * tileSize;
+                int y = row * tileSize;
+                int tileWidth = Math.min(tileSize, levelWidth - x);
+                int tileHeight = Math.min(tileSize, levelHeight - y);
+                // Floor both edges so neighbouring tiles meet without gaps
+                int x1 = (int) Math.floor(originX + x * pixelX);
+                int y1 = (int) Math.floor(originY + y * pixelY);
+                int x2 = (int) Math.floor(originX + (x + tileWidth) * pixelX);
+                int y2 = (int) Math.floor(originY + (y + tileHeight) * pixelY);
+
+                long key = key(level, column, row);
+                visible.add(key);
+                BufferedImage tile = tiles.get(key);
+                if (tile == null) {
+                    request(level, column, row);
+                    paintPlaceholder(g, level, column, row, tileWidth, tileHeight, x1, y1, x2, y2);
+                } else if (tile != MISSING) {
+                    g.drawImage(tile, x1, y1, x2, y2, 0, 0, tile.getWidth(), tile.getHeight(), null);
+                }
+            }
+        }
+        // Tiles scrolled out of view before their turn are not decoded, but
+        // the top tile is kept as the placeholder of last resort
+        long top = key(levels - 1, 0, 0);
+        visible.add(top);
+        if (!tiles.containsKey(top)) {
+            request(levels - 1, 0, 0);
+        }
+        pending.retainAll(visible);
+    }
+
+    /**
+     * Stretches the covering part of the nearest coarser cached tile over a
+     * tile that has not arrived yet
+     */
+    private void paintPlaceholder(Graphics2D g, int level, int column, int row, int tileWidth, int tileHeight,
+            int x1, int y1, int x2, int y2) {
+        for (int shift = 1; level + shift < levels; shift++) {
+            BufferedImage parent = tiles.get(key(level + shift, column >> shift, row >> shift));
+            if (parent == null) {
+                continue;
+            }
+            if (parent == MISSING) {
+                return;
+            }
+            int sx1 = ((column * tileSize) >> shift) - (column >> shift) * tileSize;
+            int sy1 = ((row * tileSize) >> shift) - (row >> shift) * tileSize;
+            int sx2 = Math.min(parent.getWidth(), sx1 + Math.max(1, ceilDiv(tileWidth, 1 << shift)));
+            int sy2 = Math.min(parent.getHeight(), sy1 + Math.max(1, ceilDiv(tileHeight, 1 << shift)));
+            g.drawImage(parent, x1, y1, x2, y2, sx1, sy1, sx2, sy2, null);
+            return;
+        }
+    }
+
+    private void request(int level, int column, int row) {
+        long key = key(level, column, row);
+        if (!pending.add(key)) {
+            return;
+        }
+        loader.execute(() -> {
+            if (!pending.contains(key)) {
+                return;
+            }
+            BufferedImage tile = read(level, column, row);
+            SwingUtilities.invokeLater(() -> {
+                pending.remove(key);
+                cache(key, tile);
+                repaint.run();
+            });
+        });
+    }
+
+    /**
+     * Decodes one tile into an image type Java2D draws without conversion
+     */
+    private static BufferedImage read(int level, int column, int row) {
+        String name = RESOURCE_DIRECTORY + TileSlicer.tileName(level, column, row);
+        try (InputStream in = BasemapLayer.class.getResourceAsStream(name)) {
+            BufferedImage image = in == null ? null : ImageIO.read(in);
+            if (image == null) {
+                return MISSING;
+            }
+            BufferedImage tile = new BufferedImage(image.getWidth(), image.getHeight(),
+                    image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = tile.createGraphics();
+            g.drawImage(image, 0, 0, null);
+            g.dispose();
+            return tile;
+        } catch (IOException e) {
+            System.err.println("Error loading map tile " + name + ": " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    private void cache(long key, BufferedImage tile) {
+        BufferedImage previous = tiles.put(key, tile);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(tile);
+        Iterator<Map.Entry<Long, BufferedImage>> eldest = tiles.entrySet().iterator();
+        while (bytes > MEMORY_BUDGET && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private static long sizeOf(BufferedImage tile) {
+        return 4L * tile.getWidth() * tile.getHeight();
+    }
+
+    private static long key(int level, int column, int row) {
+        return ((long) level << 48) | ((long) column << 24) | row;
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+}
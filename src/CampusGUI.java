@@ -8,7 +8,12 @@ import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Campus GUI, loads the map and runs the GUI
@@ -36,7 +41,9 @@ public class CampusGUI extends JFrame {
 
     private static class MapPanel extends JPanel {
         private final CampusMap map;
-        private BufferedImage mapImage;
+        private final RouteCache routeCache;
+        private final BasemapLayer basemap;
+        private BufferedImage mapImage;     // used when no tile pyramid is bundled
         private double scale = 0.1;
         private double offsetX = 0;
         private double offsetY = 0;
@@ -48,16 +55,37 @@ public class CampusGUI extends JFrame {
         private List<Node> currentPath = null;
         private double currentPathDistance = 0.0;
 
-        private final double MAP_XMIN = -80.443586959;
-        private final double MAP_XMAX = -80.391861732;
-        private final double MAP_YMIN = 37.211987932;
-        private final double MAP_YMAX = 37.235746171;
-        private final int MAP_WIDTH = 15628;
-        private final int MAP_HEIGHT = 7178;
+        // Fields for the background search; only the latest search may publish
+        private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "route-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private Future<?> search = null;
+        private long searchGeneration = 0;
+        private boolean searching = false;
+
+        // Fields for the walking isochrone shown around a middle-clicked node
+        private IsochroneLayer isochrone = null;
+        private Future<?> isochroneTask = null;
+        private long isochroneGeneration = 0;
+
+        private final MapProjection projection = MapProjection.CAMPUS;
+        private final EdgeTileLayer edgeLayer;
+        private final int MAP_WIDTH = projection.getWidth();
+        private final int MAP_HEIGHT = projection.getHeight();
+        private static final int ROUTE_CACHE_ENTRIES = 256;
+        private static final long ROUTE_CACHE_BYTES = 4L << 20;
+        private static final double[] ISOCHRONE_MINUTES = {5, 10, 15};
 
         public MapPanel(CampusMap map) {
             this.map = map;
-            loadMapImage();
+            this.routeCache = new RouteCache(map, ROUTE_CACHE_ENTRIES, ROUTE_CACHE_BYTES);
+            this.edgeLayer = new EdgeTileLayer(map, projection);
+            this.basemap = BasemapLayer.open(projection, this::repaint);
+            if (basemap == null) {
+                loadMapImage();
+            }
             setupListeners();
             setPreferredSize(new Dimension(MAP_WIDTH, MAP_HEIGHT));
         }
@@ -75,27 +103,18 @@ public class CampusGUI extends JFrame {
         }
 
         private Node findNearestNode(Point clickPoint) {
-            Node nearest = null;
-            double minDistance = Double.MAX_VALUE;
-
             double mapX = (clickPoint.x / scale) - offsetX;
             double mapY = (clickPoint.y / scale) - offsetY;
 
-            for (Node node : map.getNodes()) {
-                int nodeX = longitudeToX(node.getY());
-                int nodeY = latitudeToY(node.getX());
-
-                double distance = Math.sqrt(
-                        Math.pow((mapX - nodeX), 2) +
-                                Math.pow((mapY - nodeY), 2));
-
-                if (distance < minDistance && distance < 50) {
-                    minDistance = distance;
-                    nearest = node;
-                }
+            Node nearest = map.findNearestNode(yToLatitude(mapY), xToLongitude(mapX));
+            if (nearest == null) {
+                return null;
             }
 
-            return nearest;
+            // Only snap to nodes drawn close to the click
+            double dx = mapX - longitudeToX(nearest.getY());
+            double dy = mapY - latitudeToY(nearest.getX());
+            return dx * dx + dy * dy < 50 * 50 ? nearest : null;
         }
 
         @Override
@@ -103,31 +122,46 @@ public class CampusGUI extends JFrame {
             super.paintComponent(g);
             Graphics2D g2d = (Graphics2D) g;
 
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             AffineTransform originalTransform = g2d.getTransform();
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            if (basemap != null) {
+                basemap.paint(g2d, clip, scale, offsetX, offsetY);
+            }
 
             g2d.scale(scale, scale);
             g2d.translate(offsetX, offsetY);
 
+            // Only the part of the image under the clip is scaled
             if (mapImage != null) {
-                g2d.drawImage(mapImage, 0, 0, MAP_WIDTH, MAP_HEIGHT, null);
+                Rectangle visible = g2d.getClipBounds();
+                Rectangle source = visible == null ? new Rectangle(0, 0, MAP_WIDTH, MAP_HEIGHT)
+                        : visible.intersection(new Rectangle(0, 0, MAP_WIDTH, MAP_HEIGHT));
+                if (!source.isEmpty()) {
+                    double imageScaleX = mapImage.getWidth() / (double) MAP_WIDTH;
+                    double imageScaleY = mapImage.getHeight() / (double) MAP_HEIGHT;
+                    g2d.drawImage(mapImage, source.x, source.y, source.x + source.width, source.y + source.height,
+                            (int) (source.x * imageScaleX), (int) (source.y * imageScaleY),
+                            (int) ((source.x + source.width) * imageScaleX),
+                            (int) ((source.y + source.height) * imageScaleY), null);
+                }
             }
 
-            // Draw edges
-            g2d.setColor(Color.RED);
-            g2d.setStroke(new BasicStroke(3.0f));
-            for (Edge edge : map.getEdges()) {
-                int x1 = longitudeToX(edge.getFirstNode().getY());
-                int y1 = latitudeToY(edge.getFirstNode().getX());
-                int x2 = longitudeToX(edge.getSecondNode().getY());
-                int y2 = latitudeToY(edge.getSecondNode().getX());
-
-                if (x1 >= 0 && y1 >= 0 && x2 >= 0 && y2 >= 0) {
-                    g2d.drawLine(x1, y1, x2, y2);
-                }
+            // Edges and nodes come from cached tiles drawn without the transform
+            g2d.setTransform(originalTransform);
+            edgeLayer.paint(g2d, clip, scale, offsetX, offsetY);
+
+            // Isochrone, path and selection overlay
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.scale(scale, scale);
+            g2d.translate(offsetX, offsetY);
+
+            if (isochrone != null) {
+                isochrone.paint(g2d);
             }
 
-            // Draw the path if it exists
             if (currentPath != null && currentPath.size() > 1) {
                 g2d.setColor(Color.YELLOW);
                 g2d.setStroke(new BasicStroke(5.0f));
@@ -147,26 +181,30 @@ public class CampusGUI extends JFrame {
                 }
             }
 
-            // Draw nodes
-            int nodeSize = 10;
-            for (Node node : map.getNodes()) {
-                int x = longitudeToX(node.getY());
-                int y = latitudeToY(node.getX());
-
-                if (x >= 0 && y >= 0) {
-                    if (node == selectedStart || node == selectedEnd) {
-                        g2d.setColor(Color.YELLOW);
-                        nodeSize = 15;
-                    } else {
-                        g2d.setColor(Color.BLUE);
-                        nodeSize = 10;
+            int selectedSize = 15;
+            g2d.setColor(Color.YELLOW);
+            for (Node node : new Node[] {selectedStart, selectedEnd}) {
+                if (node != null) {
+                    int x = longitudeToX(node.getY());
+                    int y = latitudeToY(node.getX());
+                    if (x >= 0 && y >= 0) {
+                        g2d.fillOval(x - selectedSize / 2, y - selectedSize / 2, selectedSize, selectedSize);
                     }
-                    g2d.fillOval(x - nodeSize / 2, y - nodeSize / 2, nodeSize, nodeSize);
                 }
             }
 
-            // Draw distance information if path exists
-            if (currentPath != null && !currentPath.isEmpty()) {
+            // Draw search progress or distance information if path exists
+            if (searching) {
+                g2d.setTransform(originalTransform);
+                g2d.setColor(Color.BLACK);
+                g2d.setFont(new Font("Arial", Font.BOLD, 14));
+                g2d.drawString("Finding route...", 10, 60);
+            } else if (currentPath != null && currentPath.isEmpty() && selectedEnd != null) {
+                g2d.setTransform(originalTransform);
+                g2d.setColor(Color.BLACK);
+                g2d.setFont(new Font("Arial", Font.BOLD, 14));
+                g2d.drawString("No path found between selected nodes", 10, 60);
+            } else if (currentPath != null && !currentPath.isEmpty()) {
                 g2d.setTransform(originalTransform);
                 g2d.setColor(Color.BLACK);
                 g2d.setFont(new Font("Arial", Font.BOLD, 14));
@@ -180,6 +218,20 @@ public class CampusGUI extends JFrame {
             g2d.drawString("Scale: " + String.format("%.2f", scale), 10, 20);
             g2d.drawString("Offset: (" + String.format("%.0f", offsetX) + ", " + String.format("%.0f", offsetY) + ")",
                     10, 40);
+
+            if (isochroneTask != null) {
+                g2d.drawString("Finding walking distances...", 10, 100);
+            } else if (isochrone != null) {
+                Isochrone reached = isochrone.isochrone();
+                for (int b = 0; b < reached.bandCount(); b++) {
+                    int y = 100 + 16 * b;
+                    g2d.setColor(IsochroneLayer.color(b));
+                    g2d.fillRect(10, y - 10, 12, 12);
+                    g2d.setColor(Color.BLACK);
+                    g2d.drawString(String.format("%.0f min walk: %d nodes", ISOCHRONE_MINUTES[b],
+                            reached.bandEnd(b)), 28, y);
+                }
+            }
         }
 
         private void setupListeners() {
@@ -204,36 +256,31 @@ public class CampusGUI extends JFrame {
                                 selectedStart = clickedNode;
                                 currentPath = null;
                                 currentPathDistance = 0.0;
-                                System.out.println("Selected start node: " + clickedNode.getName());
                             } else if (selectedEnd == null && clickedNode != selectedStart) {
                                 selectedEnd = clickedNode;
-                                System.out.println("Selected end node: " + clickedNode.getName());
-                                Pathfinder.PathResult result = Pathfinder.aStarSearch(selectedStart, selectedEnd,
-                                        map.getEdges());
-                                currentPath = result.getPath();
-                                currentPathDistance = result.getDistance();
-
-                                if (!currentPath.isEmpty()) {
-                                    System.out.println("Path found with " + currentPath.size() + " nodes and distance "
-                                            + currentPathDistance + " meters");
-                                } else {
-                                    System.out.println("No path found between selected nodes");
-                                }
+                                startSearch(selectedStart, selectedEnd);
                             } else {
+                                cancelSearch();
                                 selectedStart = clickedNode;
                                 selectedEnd = null;
                                 currentPath = null;
                                 currentPathDistance = 0.0;
-                                System.out.println("Reset to new start node: " + clickedNode.getName());
                             }
                             repaint();
                         }
+                    } else if (SwingUtilities.isMiddleMouseButton(e)) {
+                        Node clickedNode = findNearestNode(e.getPoint());
+                        if (clickedNode != null) {
+                            startIsochrone(clickedNode);
+                        }
                     } else if (SwingUtilities.isRightMouseButton(e)) {
+                        cancelSearch();
+                        cancelIsochrone();
+                        isochrone = null;
                         selectedStart = null;
                         selectedEnd = null;
                         currentPath = null;
                         currentPathDistance = 0.0;
-                        System.out.println("Reset all selections");
                         repaint();
                     }
                     lastDragPoint = e.getPoint();
@@ -255,18 +302,111 @@ public class CampusGUI extends JFrame {
             });
         }
 
+        /**
+         * Finds a route on the search thread and publishes it on the event
+         * dispatch thread, replacing any search still running
+         */
+        private void startSearch(Node start, Node goal) {
+            cancelSearch();
+            long generation = searchGeneration;
+            searching = true;
+            currentPath = null;
+            currentPathDistance = 0.0;
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+            search = searchExecutor.submit(() -> {
+                Pathfinder.PathResult result;
+                try {
+                    result = routeCache.route(start, goal);
+                } catch (CancellationException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    System.err.println("Error finding route: " + e.getMessage());
+                    result = new Pathfinder.PathResult(Collections.emptyList(), 0.0);
+                }
+                Pathfinder.PathResult found = result;
+                SwingUtilities.invokeLater(() -> {
+                    if (generation != searchGeneration) {
+                        return;     // superseded while queued for the EDT
+                    }
+                    searching = false;
+                    search = null;
+                    currentPath = found.getPath();
+                    currentPathDistance = found.getDistance();
+                    setCursor(Cursor.getDefaultCursor());
+                    repaint();
+                });
+            });
+        }
+
+        /**
+         * Interrupts the running search, or drops it from the queue if it has
+         * not started, so its result is never shown
+         */
+        private void cancelSearch() {
+            searchGeneration++;
+            if (search != null) {
+                search.cancel(true);
+                search = null;
+            }
+            if (searching) {
+                searching = false;
+                setCursor(Cursor.getDefaultCursor());
+            }
+        }
+
+        /**
+         * Finds how far one can walk from a node on the search thread and
+         * traces the bands there too, so the event dispatch thread only
+         * swaps in the finished layer
+         */
+        private void startIsochrone(Node origin) {
+            cancelIsochrone();
+            long generation = isochroneGeneration;
+            isochroneTask = searchExecutor.submit(() -> {
+                IsochroneLayer layer;
+                try {
+                    layer = IsochroneLayer.build(Isochrone.walking(map, origin, ISOCHRONE_MINUTES), projection);
+                } catch (CancellationException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    System.err.println("Error finding walking distances: " + e.getMessage());
+                    layer = null;
+                }
+                IsochroneLayer found = layer;
+                SwingUtilities.invokeLater(() -> {
+                    if (generation != isochroneGeneration) {
+                        return;
+                    }
+                    isochroneTask = null;
+                    isochrone = found;
+                    repaint();
+                });
+            });
+            repaint();
+        }
+
+        private void cancelIsochrone() {
+            isochroneGeneration++;
+            if (isochroneTask != null) {
+                isochroneTask.cancel(true);
+                isochroneTask = null;
+            }
+        }
+
         private int longitudeToX(double longitude) {
-            if (longitude > 0)
-                return -1;
-            double proportion = (longitude - MAP_XMIN) / (MAP_XMAX - MAP_XMIN);
-            return (int) (proportion * MAP_WIDTH);
+            return projection.longitudeToX(longitude);
+        }
+
+        private double xToLongitude(double x) {
+            return projection.xToLongitude(x);
+        }
+
+        private double yToLatitude(double y) {
+            return projection.yToLatitude(y);
         }
 
         private int latitudeToY(double latitude) {
-            if (latitude < 0)
-                return -1;
-            double proportion = (latitude - MAP_YMIN) / (MAP_YMAX - MAP_YMIN);
-            return MAP_HEIGHT - (int) (proportion * MAP_HEIGHT);
+            return projection.latitudeToY(latitude);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package src;
 
-import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import com.google.gson.*;
 
@@ -15,8 +17,13 @@ import com.google.gson.*;
 public class CampusMap {
 
     // - Fields
-    private Map<String, Node> nodes; // Map of node coordinates to Node objects
-    private ArrayList<Edge> edges; // List of edges connecting nodes
+    private volatile MapState state; // Graph, nodes, edges, landmarks and hierarchy, replaced on every change
+    private CsrGraph loadedGraph; // Graph as loaded, before any edge updates
+    private final ArrayDeque<EdgeChange> changes = new ArrayDeque<>(); // Edge updates since the load, oldest first
+    private volatile NodeOrder nodeOrder = NodeOrder.HILBERT; // How loads number the nodes
+
+    /** Edge updates kept for incremental consumers; older ones force a full refresh */
+    static final int MAX_LOGGED_CHANGES = 4096;
 
     // - Constructor(s)
 
@@ -25,21 +32,37 @@ public class CampusMap {
      * Initializes empty collections for nodes and edges.
      */
     public CampusMap() {
-        nodes = new HashMap<>();
-        edges = new ArrayList<>();
+        install(new GraphBuilder().build(), 0, 0, 0);
     }
 
     // - Methods
 
     /**
-     * Loads the map data from a JSON file.
+     * Loads the map data from a JSON file. The document is streamed token by
+     * token into primitive buffers, without building a JSON tree.
      * 
-     * @param filePath Path to the JSON file
+     * @param reader Reader over the JSON document
      * @throws Exception if file reading or parsing fails
      */
     public void loadFromJson(Reader reader) throws Exception {
+        GraphBuilder builder = new GraphBuilder();
+        JsonGraphReader.read(reader, builder);
+        install(builder.build(), builder.duplicateNodes(), builder.droppedEdges(), builder.invalidWeights());
+    }
+
+    /**
+     * Loads the map data from a JSON file through a Gson JsonObject tree.
+     * Kept as the reference loader that the streaming loadFromJson is
+     * measured against.
+     * 
+     * @param reader Reader over the JSON document
+     * @throws Exception if file reading or parsing fails
+     */
+    public void loadFromJsonTree(Reader reader) throws Exception {
         Gson gson = new Gson();
         JsonObject mapJson = gson.fromJson(reader, JsonObject.class);
+        GraphBuilder builder = new GraphBuilder();
+        Map<String, Integer> ids = new HashMap<>();
 
         // Parse nodes
         JsonArray nodesJson = mapJson.getAsJsonArray("nodes");
@@ -51,14 +74,12 @@ public class CampusMap {
             double latitude = Double.parseDouble(latLong[0]);
             double longitude = Double.parseDouble(latLong[1]);
 
-            boolean isStep = nodeObject.get("isStep").getAsBoolean();
-            String surface = (nodeObject.has("surface") && !nodeObject.get("surface").isJsonNull())
-                    ? nodeObject.get("surface").getAsString()
-                    : null;
-            String name = "Node(" + latitude + "," + longitude + ")";
-            Node node = new Node(name, latitude, longitude);
+            JsonElement step = nodeObject.get("isStep");
+            JsonElement surface = nodeObject.get("surface");
+            byte attributes = NodeAttributes.of(step != null && !step.isJsonNull() && step.getAsBoolean(),
+                    Surface.fromTag(surface == null || surface.isJsonNull() ? null : surface.getAsString()));
 
-            nodes.put(coordinates, node);
+            ids.put(coordinates, builder.addNode(latitude, longitude, attributes));
         }
 
         // Parse edges
@@ -67,26 +88,372 @@ public class CampusMap {
             JsonObject edgeJson = edgeElement.getAsJsonObject();
             String from = edgeJson.get("from").getAsString();
             String to = edgeJson.get("to").getAsString();
-            double weight = edgeJson.get("weight").getAsDouble();
+            JsonElement weightJson = edgeJson.get("weight");
+            double weight = weightJson != null && weightJson.isJsonPrimitive()
+                    && weightJson.getAsJsonPrimitive().isNumber() ? weightJson.getAsDouble() : Double.NaN;
 
-            Node n1 = nodes.get(from);
-            Node n2 = nodes.get(to);
+            Integer n1 = ids.get(from);
+            Integer n2 = ids.get(to);
             if (n1 != null && n2 != null) {
-                edges.add(new Edge(n1, n2, weight));
+                builder.addEdge(n1, n2, weight);
+            } else {
+                builder.skipEdge();
             }
         }
+
+        install(builder.build(), builder.duplicateNodes(), builder.droppedEdges(), builder.invalidWeights());
+    }
+
+    /**
+     * Loads the map data from a binary snapshot written by saveSnapshot.
+     * 
+     * @param file Path to the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public void loadFromSnapshot(Path file) throws IOException {
+        install(GraphSnapshot.read(file), 0, 0, 0);
+    }
+
+    /**
+     * Loads the map data from an OpenStreetMap path export in CSV form, such
+     * as bin/paths.csv. The file is memory-mapped and parsed in parallel
+     * chunks; endpoints at the same coordinates become one node, and each
+     * edge keeps its highway type, surface and width. Endpoints shared by
+     * several records are expected here, so they are not reported as
+     * duplicate nodes.
+     * 
+     * @param file Path to the CSV file
+     * @throws IOException if reading fails or a required column is missing
+     */
+    public void loadFromCsv(Path file) throws IOException {
+        GraphBuilder builder = new GraphBuilder();
+        OsmCsvReader.read(file, builder);
+        install(builder.build(), 0, builder.droppedEdges(), builder.invalidWeights());
+    }
+
+    /**
+     * Loads the map data from a file in any format: a binary snapshot, a CSV
+     * path export (by its .csv extension) or a JSON document.
+     * 
+     * @param file Path to the map file
+     * @throws Exception if file reading or parsing fails
+     */
+    public void load(Path file) throws Exception {
+        if (GraphSnapshot.isSnapshot(file)) {
+            loadFromSnapshot(file);
+        } else if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            loadFromCsv(file);
+        } else {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                loadFromJson(reader);
+            }
+        }
+    }
+
+    /**
+     * Writes the map to a binary snapshot that loads without parsing.
+     * 
+     * @param file Path of the snapshot to write
+     * @throws IOException if writing fails
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        GraphSnapshot.write(state.graph(), file);
+    }
+
+    /**
+     * Replaces the contents of the map with a graph: its nodes are
+     * renumbered in the map's node order, weights below the straight-line
+     * bound are raised to it, the Node and Edge objects used by the GUI and
+     * callers are derived from its arcs, and the graph is checked and split
+     * into connected components.
+     */
+    private synchronized void install(CsrGraph loaded, int duplicateNodes, int droppedEdges, int invalidWeights) {
+        int[] newIds = nodeOrder.newIds(loaded);
+        CsrGraph newGraph = newIds == null ? loaded : loaded.renumber(newIds);
+        // A shorter edge would let the geometric A* bounds overestimate
+        double[] raised = null;
+        int raisedEdges = 0;
+        for (int u = 0; u < newGraph.nodeCount(); u++) {
+            for (int arc = newGraph.firstArc(u), end = newGraph.endArc(u); arc < end; arc++) {
+                double shortest = Heuristic.shortestEdge(newGraph, u, newGraph.target(arc));
+                if (newGraph.weight(arc) < shortest) {
+                    if (raised == null) {
+                        raised = new double[newGraph.arcCount()];
+                        for (int a = 0; a < raised.length; a++) {
+                            raised[a] = newGraph.weight(a);
+                        }
+                    }
+                    raised[arc] = shortest;
+                    raisedEdges += newGraph.target(arc) > u ? 1 : 0;
+                }
+            }
+        }
+        if (raised != null) {
+            newGraph = newGraph.withWeights(raised);
+        }
+        Node[] newNodes = new Node[newGraph.nodeCount()];
+        for (int id = 0; id < newNodes.length; id++) {
+            newNodes[id] = new Node(newGraph.latitude(id), newGraph.longitude(id));
+            newNodes[id].setId(id);
+            newNodes[id].setAttributes(newGraph.attributes(id));
+        }
+
+        // Every edge is stored as two arcs, keep the one with the lower tail
+        ArrayList<Edge> newEdges = new ArrayList<>(newGraph.arcCount() / 2);
+        int[] arcEdges = new int[newGraph.arcCount()];
+        Arrays.fill(arcEdges, -1);
+        for (int u = 0; u < newNodes.length; u++) {
+            boolean skipLoop = false;
+            for (int arc = newGraph.firstArc(u), end = newGraph.endArc(u); arc < end; arc++) {
+                int v = newGraph.target(arc);
+                if (v == u) {
+                    // Both arcs of a self loop sit next to each other
+                    skipLoop = !skipLoop;
+                    if (!skipLoop) {
+                        continue;
+                    }
+                } else if (v < u) {
+                    continue;
+                }
+                Edge edge = new Edge(newNodes[u], newNodes[v], newGraph.weight(arc));
+                edge.setAttributes(newGraph.arcAttributes(arc));
+                arcEdges[arc] = newEdges.size();
+                newEdges.add(edge);
+            }
+        }
+
+        loadedGraph = newGraph;
+        changes.clear();
+        CsrGraph[] graphs = profileGraphs(newGraph);
+        ComponentLabels[] components = components(graphs);
+        GraphValidation validation = GraphValidation.check(newGraph, components[RoutingProfile.FASTEST.ordinal()],
+                duplicateNodes, droppedEdges, invalidWeights, raisedEdges);
+        MapState.Contents contents = new MapState.Contents(newNodes, newEdges, arcEdges,
+                new SpatialIndex(newGraph), validation);
+        state = new MapState(state == null ? 1 : state.version() + 1, contents, graphs, components,
+                Landmarks.select(newGraph, Landmarks.DEFAULT_COUNT), null);
+    }
+
+    /**
+     * Changes the weight of one edge, in both directions
+     * 
+     * @param from one end node id
+     * @param to other end node id
+     * @param weight new weight in meters, or positive infinity to close the edge
+     * @throws IllegalArgumentException if the nodes are not adjacent or the weight is below
+     *         GEOMETRIC_SCALE times the great-circle distance between them
+     */
+    public void setEdgeWeight(int from, int to, double weight) {
+        updateEdgeWeights(new int[] {from}, new int[] {to}, new double[] {weight});
+    }
+
+    /**
+     * Closes an edge so no route uses it, until it is restored
+     * 
+     * @param from one end node id
+     * @param to other end node id
+     * @throws IllegalArgumentException if the nodes are not adjacent
+     */
+    public void closeEdge(int from, int to) {
+        setEdgeWeight(from, to, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Gives an edge back the weight it was loaded with. That weight is
+     * written as is, without the straight-line check of updateEdgeWeights.
+     * 
+     * @param from one end node id
+     * @param to other end node id
+     * @throws IllegalArgumentException if the nodes are not adjacent
+     */
+    public synchronized void restoreEdge(int from, int to) {
+        int arc = loadedGraph.findArc(from, to);
+        if (arc < 0) {
+            throw new IllegalArgumentException("No edge between nodes " + from + " and " + to);
+        }
+        update(new int[] {from}, new int[] {to}, new double[] {loadedGraph.weight(arc)}, false);
+    }
+
+    /**
+     * Changes the weights of several edges at once, in both directions.
+     * Parallel edges between the same nodes all get the new weight. The map
+     * publishes a new graph and leaves the one running searches read alone;
+     * the landmark tables are recomputed only if some weight went down, and
+     * any attached Contraction Hierarchy is dropped since it no longer
+     * matches the weights. No edge may become shorter than GEOMETRIC_SCALE
+     * times the great-circle distance between its nodes, the most the
+     * geometric A* bounds assume, or they would stop being admissible.
+     * 
+     * @param from one end node id of each edge
+     * @param to other end node id of each edge
+     * @param weights new weight of each edge, positive infinity to close it
+     * @throws IllegalArgumentException if some nodes are not adjacent or a weight is below
+     *         that straight-line bound; no edge is changed then
+     */
+    public synchronized void updateEdgeWeights(int[] from, int[] to, double[] weights) {
+        update(from, to, weights, true);
+    }
+
+    /**
+     * Publishes new edge weights, checking them against the straight-line
+     * bound unless they are the loaded weights coming back
+     */
+    private void update(int[] from, int[] to, double[] weights, boolean checkBound) {
+        if (from.length != to.length || from.length != weights.length) {
+            throw new IllegalArgumentException("Expected as many weights as edges");
+        }
+        MapState current = state;
+        CsrGraph graph = current.graph();
+        double[] newWeights = new double[graph.arcCount()];
+        for (int arc = 0; arc < newWeights.length; arc++) {
+            newWeights[arc] = graph.weight(arc);
+        }
+
+        long version = current.version() + 1;
+        EdgeChange[] batch = new EdgeChange[from.length];
+        boolean decreased = false;
+        boolean reconnected = false;
+        for (int i = 0; i < from.length; i++) {
+            if (!(weights[i] >= 0)) {
+                throw new IllegalArgumentException("Edge weight must not be negative: " + weights[i]);
+            }
+            int arc = graph.findArc(from[i], to[i]);
+            if (arc < 0) {
+                throw new IllegalArgumentException("No edge between nodes " + from[i] + " and " + to[i]);
+            }
+            // A shorter edge would let the geometric A* bounds overestimate
+            double shortest = Heuristic.shortestEdge(graph, from[i], to[i]);
+            if (checkBound && weights[i] < shortest) {
+                throw new IllegalArgumentException("Edge weight " + weights[i] + " between nodes " + from[i]
+                        + " and " + to[i] + " is shorter than their straight-line distance " + shortest);
+            }
+            double oldWeight = newWeights[arc];
+            setArcWeights(graph, from[i], to[i], weights[i], newWeights);
+            setArcWeights(graph, to[i], from[i], weights[i], newWeights);
+            batch[i] = new EdgeChange(version, from[i], to[i], oldWeight, weights[i]);
+            decreased |= weights[i] < oldWeight;
+            reconnected |= (weights[i] == Double.POSITIVE_INFINITY) != (oldWeight == Double.POSITIVE_INFINITY);
+        }
+
+        CsrGraph newGraph = graph.withWeights(newWeights);
+        // Old landmark distances stay lower bounds while weights only grow
+        Landmarks landmarks = decreased ? Landmarks.select(newGraph, Landmarks.DEFAULT_COUNT) : current.landmarks();
+        // Components only change when an edge closes or opens
+        CsrGraph[] graphs = profileGraphs(newGraph);
+        ComponentLabels[] components = reconnected ? components(graphs) : current.components();
+        state = new MapState(version, current.contents(), graphs, components, landmarks, null);
+
+        MapState.Contents contents = current.contents();
+        for (EdgeChange change : batch) {
+            changes.addLast(change);
+            // The Edge objects hang off the arcs from the lower end
+            int lower = Math.min(change.getFrom(), change.getTo());
+            int upper = Math.max(change.getFrom(), change.getTo());
+            for (int arc = graph.firstArc(lower), end = graph.endArc(lower); arc < end; arc++) {
+                if (graph.target(arc) == upper && contents.edgeOf(arc) >= 0) {
+                    contents.edges().get(contents.edgeOf(arc)).setWeight(change.getNewWeight());
+                }
+            }
+        }
+        while (changes.size() > MAX_LOGGED_CHANGES) {
+            changes.removeFirst();
+        }
+    }
+
+    /**
+     * Gets the current weight of an edge
+     * 
+     * @param from one end node id
+     * @param to other end node id
+     * @return weight in meters, positive infinity if the edge is closed
+     * @throws IllegalArgumentException if the nodes are not adjacent
+     */
+    public double getEdgeWeight(int from, int to) {
+        CsrGraph graph = state.graph();
+        int arc = graph.findArc(from, to);
+        if (arc < 0) {
+            throw new IllegalArgumentException("No edge between nodes " + from + " and " + to);
+        }
+        return graph.weight(arc);
+    }
+
+    private static void setArcWeights(CsrGraph graph, int from, int to, double weight, double[] weights) {
+        for (int arc = graph.firstArc(from), end = graph.endArc(from); arc < end; arc++) {
+            if (graph.target(arc) == to) {
+                weights[arc] = weight;
+            }
+        }
+    }
+
+    /**
+     * Gets the edge updates that turned one version of the map into another,
+     * so derived data can be patched instead of rebuilt
+     * 
+     * @param from version the caller has
+     * @param to version the caller moves to, at most the current one
+     * @return updates in order, or null if the map was reloaded in between
+     *         or the updates are no longer logged
+     */
+    synchronized List<EdgeChange> changesSince(long from, long to) {
+        List<EdgeChange> result = new ArrayList<>();
+        if (from >= to) {
+            return result;
+        }
+        if (changes.isEmpty() || changes.peekFirst().getVersion() > from + 1) {
+            return null;
+        }
+        for (EdgeChange change : changes) {
+            if (change.getVersion() > from && change.getVersion() <= to) {
+                result.add(change);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the routing data of the current version, for searches that must
+     * see one consistent graph
+     */
+    MapState state() {
+        return state;
+    }
+
+    /**
+     * Precomputes the weights of every routing profile; the topology arrays
+     * are shared with the FASTEST graph.
+     */
+    private static CsrGraph[] profileGraphs(CsrGraph fastest) {
+        RoutingProfile[] profiles = RoutingProfile.values();
+        CsrGraph[] graphs = new CsrGraph[profiles.length];
+        for (RoutingProfile profile : profiles) {
+            graphs[profile.ordinal()] = profile == RoutingProfile.FASTEST
+                    ? fastest : fastest.withWeights(profile.weights(fastest));
+        }
+        return graphs;
+    }
+
+    /**
+     * Labels the connected components of every profile graph
+     */
+    private static ComponentLabels[] components(CsrGraph[] graphs) {
+        ComponentLabels[] components = new ComponentLabels[graphs.length];
+        for (int i = 0; i < graphs.length; i++) {
+            components[i] = ComponentLabels.compute(graphs[i]);
+        }
+        return components;
     }
 
     /**
      * Prints the map for debugging.
      */
     public void printMap() {
+        MapState.Contents contents = state.contents();
         System.out.println("Nodes:");
-        for (Node node : nodes.values()) {
+        for (Node node : contents.nodes()) {
             System.out.println("  " + node.getName() + " at (" + node.getX() + ", " + node.getY() + ")");
         }
         System.out.println("Edges:");
-        for (Edge edge : edges) {
+        for (Edge edge : contents.edges()) {
             System.out.println("  " + edge.getFirstNode().getName() + " -> " +
                     edge.getSecondNode().getName() + " with weight " + edge.getWeight());
         }
@@ -98,7 +465,7 @@ public class CampusMap {
      * @return A collection of nodes
      */
     public Collection<Node> getNodes() {
-        return nodes.values();
+        return state.contents().nodeList();
     }
 
     /**
@@ -107,6 +474,222 @@ public class CampusMap {
      * @return A list of edges
      */
     public ArrayList<Edge> getEdges() {
-        return edges;
+        return state.contents().edges();
+    }
+
+    /**
+     * Gets the node with the given id.
+     * 
+     * @param id node id
+     * @return the node
+     */
+    public Node getNode(int id) {
+        return state.node(id);
+    }
+
+    /**
+     * Gets the number of nodes in the map.
+     * 
+     * @return node count
+     */
+    public int getNodeCount() {
+        return state.contents().nodes().length;
+    }
+
+    /**
+     * Sets how maps loaded from now on number their nodes. The default,
+     * HILBERT, keeps nodes that are close on the map close in memory;
+     * INPUT keeps the order of the map file.
+     * 
+     * @param order the node order
+     */
+    public void setNodeOrder(NodeOrder order) {
+        nodeOrder = Objects.requireNonNull(order);
+    }
+
+    public NodeOrder getNodeOrder() {
+        return nodeOrder;
+    }
+
+    /**
+     * Gets the adjacency index of the map.
+     * 
+     * @return the CSR graph
+     */
+    public CsrGraph getGraph() {
+        return state.graph();
+    }
+
+    /**
+     * Gets the adjacency index of the map weighted for a routing profile.
+     * Arcs the profile excludes have infinite weight.
+     * 
+     * @param profile the routing profile
+     * @return the CSR graph
+     */
+    public CsrGraph getGraph(RoutingProfile profile) {
+        return state.graph(profile);
+    }
+
+    /**
+     * Gets the spatial index of the map.
+     * 
+     * @return the spatial index
+     */
+    public SpatialIndex getSpatialIndex() {
+        return state.contents().spatialIndex();
+    }
+
+    /**
+     * Gets the version of the map's graph, which changes whenever the map is
+     * loaded again or an edge weight is updated. Results derived from the
+     * graph are stale once it moves on.
+     * 
+     * @return graph version
+     */
+    public long getVersion() {
+        return state.version();
+    }
+
+    /**
+     * Gets what loading found wrong or unusual in the graph: merged nodes,
+     * dropped edges, self loops, parallel edges, invalid and raised weights
+     * and the connected components.
+     * 
+     * @return the report of the last load
+     */
+    public GraphValidation getValidationReport() {
+        return state.contents().validation();
+    }
+
+    /**
+     * Checks whether a route between two nodes exists for a profile, in
+     * constant time. Closed edges and edges the profile excludes do not
+     * connect.
+     * 
+     * @param a one node
+     * @param b other node
+     * @param profile routing profile
+     * @return true if a search between them can succeed
+     */
+    public boolean isConnected(Node a, Node b, RoutingProfile profile) {
+        return state.components(profile).connected(a.getId(), b.getId());
+    }
+
+    /**
+     * Gets the landmark tables used by the ALT heuristic.
+     * 
+     * @return the landmarks
+     */
+    public Landmarks getLandmarks() {
+        return state.landmarks();
+    }
+
+    /**
+     * Finds the node closest to a lat/long point.
+     * 
+     * @param latitude point latitude
+     * @param longitude point longitude
+     * @return the nearest node, or null if the map is empty
+     */
+    public Node findNearestNode(double latitude, double longitude) {
+        MapState current = state;
+        int id = current.contents().spatialIndex().nearest(latitude, longitude);
+        return id >= 0 ? current.node(id) : null;
+    }
+
+    /**
+     * Finds the node closest to a lat/long point within a maximum distance.
+     * 
+     * @param latitude point latitude
+     * @param longitude point longitude
+     * @param maxMeters largest accepted distance in meters
+     * @return the nearest node, or null if no node is that close
+     */
+    public Node findNearestNode(double latitude, double longitude, double maxMeters) {
+        MapState current = state;
+        int id = current.contents().spatialIndex().nearest(latitude, longitude, maxMeters);
+        return id >= 0 ? current.node(id) : null;
+    }
+
+    /**
+     * Gets the Contraction Hierarchy of the map.
+     * 
+     * @return the hierarchy, or null if none is loaded
+     */
+    public ContractionHierarchy getContractionHierarchy() {
+        return state.hierarchy();
+    }
+
+    /**
+     * Attaches a Contraction Hierarchy built for this map's graph.
+     * 
+     * @param newHierarchy the hierarchy
+     * @throws IllegalArgumentException if it was built from a different graph
+     */
+    public synchronized void setContractionHierarchy(ContractionHierarchy newHierarchy) {
+        if (!newHierarchy.matches(state.graph())) {
+            throw new IllegalArgumentException("Contraction Hierarchy was built for a different graph");
+        }
+        state = state.withHierarchy(newHierarchy);
+    }
+
+    /**
+     * Loads a Contraction Hierarchy file written by ContractionHierarchy.write
+     * and attaches it to the map.
+     * 
+     * @param file Path to the hierarchy
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if it was built from a different graph
+     */
+    public void loadContractionHierarchy(Path file) throws IOException {
+        setContractionHierarchy(ContractionHierarchy.read(file));
+    }
+
+    /**
+     * One edge weight update, as logged for incremental consumers
+     */
+    static final class EdgeChange {
+
+        private final long version;     // map version the update produced
+        private final int from;
+        private final int to;
+        private final double oldWeight;
+        private final double newWeight;
+
+        EdgeChange(long version, int from, int to, double oldWeight, double newWeight) {
+            this.version = version;
+            this.from = from;
+            this.to = to;
+            this.oldWeight = oldWeight;
+            this.newWeight = newWeight;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        int getFrom() {
+            return from;
+        }
+
+        int getTo() {
+            return to;
+        }
+
+        double getOldWeight() {
+            return oldWeight;
+        }
+
+        double getNewWeight() {
+            return newWeight;
+        }
+
+        /**
+         * Checks whether this is the edge between two nodes, either way round
+         */
+        boolean connects(int a, int b) {
+            return (a == from && b == to) || (a == to && b == from);
+        }
     }
 }
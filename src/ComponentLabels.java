@@ -0,0 +1,159 @@
+package src;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Connected component of every node of one profile graph, so a search can
+ * tell in constant time that its goal cannot be reached. Arcs of infinite
+ * weight, such as closed edges or ones a profile excludes, do not connect.
+ * Components are found with a lock-free union-find, run over the nodes in
+ * parallel on large graphs: a root is only ever linked under a smaller root by compare and
+ * set, so every component ends up under its smallest node whatever order
+ * the threads run in.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class ComponentLabels {
+
+    // - Fields
+
+    private final int[] labels;     // component of each node, numbered by smallest member
+    private final int[] sizes;      // node count of each component
+
+    // - Constructor(s)
+
+    private ComponentLabels(int[] labels, int[] sizes) {
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    // - Methods
+
+    /**
+     * Labels the connected components of a graph
+     *
+     * @param graph the graph, arcs of infinite weight are ignored
+     * @return the labels
+     */
+    static ComponentLabels compute(CsrGraph graph) {
+        int nodeCount = graph.nodeCount();
+        AtomicIntegerArray parent = new AtomicIntegerArray(nodeCount);
+        nodes(graph).forEach(u -> parent.set(u, u));
+        nodes(graph).forEach(u -> {
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                // Each edge is seen from both ends, one union is enough
+                if (v > u && graph.weight(arc) != Double.POSITIVE_INFINITY) {
+                    union(parent, u, v);
+                }
+            }
+        });
+
+        // Roots are the smallest node of their component, so numbering them
+        // in node order gives the same labels on every run
+        int[] labels = new int[nodeCount];
+        int componentCount = 0;
+        for (int u = 0; u < nodeCount; u++) {
+            int root = find(parent, u);
+            labels[u] = root == u ? componentCount++ : labels[root];
+        }
+        int[] sizes = new int[componentCount];
+        for (int label : labels) {
+            sizes[label]++;
+        }
+        return new ComponentLabels(labels, sizes);
+    }
+
+    /**
+     * Checks whether a path between two nodes exists
+     *
+     * @param a one node id
+     * @param b other node id
+     * @return true if both are in the same component
+     */
+    boolean connected(int a, int b) {
+        return labels[a] == labels[b];
+    }
+
+    /**
+     * Gets the component of a node
+     *
+     * @param node node id
+     * @return component number, 0 for the component of node 0
+     */
+    int label(int node) {
+        return labels[node];
+    }
+
+    int componentCount() {
+        return sizes.length;
+    }
+
+    /**
+     * Gets the number of nodes in a component
+     *
+     * @param component component number
+     * @return node count
+     */
+    int size(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Gets the node count of the largest component
+     *
+     * @return node count, 0 for an empty graph
+     */
+    int largestSize() {
+        return Arrays.stream(sizes).max().orElse(0);
+    }
+
+    /**
+     * Streams the node ids, in parallel for graphs large enough to pay for it
+     */
+    private static IntStream nodes(CsrGraph graph) {
+        IntStream nodes = IntStream.range(0, graph.nodeCount());
+        return CsrGraph.isParallel(graph.arcCount() / 2) ? nodes.parallel() : nodes;
+    }
+
+    /**
+     * Merges the components of two nodes, retrying when another thread
+     * relinked one of the roots first
+     */
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) {
+                return;
+            }
+            int low = Math.min(rootA, rootB);
+            int high = Math.max(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the root of a node, halving the path on the way; a lost race
+     * on a halving step only leaves the path a little longer
+     */
+    private static int find(AtomicIntegerArray parent, int node) {
+        int u = node;
+        while (true) {
+            int up = parent.get(u);
+            if (up == u) {
+                return u;
+            }
+            int grandparent = parent.get(up);
+            if (grandparent != up) {
+                parent.compareAndSet(u, up, grandparent);
+            }
+            u = grandparent;
+        }
+    }
+}
@@ -0,0 +1,672 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contraction Hierarchy over a CsrGraph. Building contracts the nodes one at
+ * a time in order of importance, adding shortcut arcs wherever a contracted
+ * node lay on the only shortest path between two of its neighbors. Queries
+ * then run a bidirectional Dijkstra that only follows arcs towards more
+ * important nodes, and shortcuts are unpacked back into the original nodes.
+ *
+ * The upward arcs are stored in CSR form by their lower ranked endpoint.
+ * A shortcut from x to y across the contracted node v keeps the indices of
+ * its two halves, the upward arcs v to x and v to y.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class ContractionHierarchy {
+
+    /** First eight bytes of a persisted hierarchy, "CMAPCHY1" in ASCII */
+    static final long MAGIC = 0x3159484350414D43L;
+    /** Current file format version */
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 32;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    // - Fields
+
+    private final long graphFingerprint;    // fingerprint of the graph this was built from
+    private final int[] rank;               // contraction order of each node
+    private final int[] offsets;            // first upward arc of each node, length nodeCount + 1
+    private final int[] sources;            // lower ranked endpoint of each arc
+    private final int[] targets;            // higher ranked endpoint of each arc
+    private final double[] weights;         // weight of each arc
+    private final int[] lowerHalf;          // for shortcuts, the arc middle -> source, else -1
+    private final int[] upperHalf;          // for shortcuts, the arc middle -> target, else -1
+
+    // - Constructor(s)
+
+    private ContractionHierarchy(long graphFingerprint, int[] rank, int[] offsets, int[] sources,
+            int[] targets, double[] weights, int[] lowerHalf, int[] upperHalf) {
+        this.graphFingerprint = graphFingerprint;
+        this.rank = rank;
+        this.offsets = offsets;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.lowerHalf = lowerHalf;
+        this.upperHalf = upperHalf;
+    }
+
+    // - Methods
+
+    /**
+     * Builds a hierarchy for a graph. This is the offline preprocessing
+     * step; its result can be saved with write and reopened with read.
+     *
+     * @param graph the graph to contract
+     * @return the hierarchy
+     */
+    public static ContractionHierarchy build(CsrGraph graph) {
+        return new Contractor(graph).run();
+    }
+
+    /**
+     * Checks whether this hierarchy was built from the given graph
+     *
+     * @param graph the graph
+     * @return true if the graph's topology and weights match
+     */
+    public boolean matches(CsrGraph graph) {
+        return graph.nodeCount() == rank.length && graph.fingerprint() == graphFingerprint;
+    }
+
+    /**
+     * Gets the number of upward arcs, original edges plus shortcuts
+     *
+     * @return arc count
+     */
+    public int arcCount() {
+        return targets.length;
+    }
+
+    /**
+     * Gets the contraction rank of a node, higher is more important
+     *
+     * @param node node id
+     * @return rank
+     */
+    public int rank(int node) {
+        return rank[node];
+    }
+
+    /**
+     * Answers a point-to-point query with a bidirectional upward search
+     *
+     * @param startId start node id
+     * @param goalId goal node id
+     * @param state the map version the hierarchy belongs to, whose nodes the path is made of
+     * @param forward workspace for the search from the start
+     * @param backward workspace for the search from the goal
+     * @param openList open list type for both searches
+     * @return the path, empty if the goal is unreachable
+     */
+    Pathfinder.PathResult query(int startId, int goalId, MapState state, SearchWorkspace forward,
+            SearchWorkspace backward, SearchOptions.OpenListType openList) {
+        int nodeCount = rank.length;
+        forward.begin(nodeCount);
+        backward.begin(nodeCount);
+        OpenList forwardOpen = forward.openList(openList, nodeCount);
+        OpenList backwardOpen = backward.openList(openList, nodeCount);
+
+        forward.update(startId, 0, -1, -1);
+        forwardOpen.push(startId, 0);
+        backward.update(goalId, 0, -1, -1);
+        backwardOpen.push(goalId, 0);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+        int settled = 0;
+        int relaxed = 0;
+        int heapOperations = 2;
+
+        while (Math.min(forwardOpen.peekKey(), backwardOpen.peekKey()) < best) {
+            boolean isForward = forwardOpen.peekKey() <= backwardOpen.peekKey();
+            SearchWorkspace side = isForward ? forward : backward;
+            SearchWorkspace other = isForward ? backward : forward;
+            OpenList open = isForward ? forwardOpen : backwardOpen;
+
+            int current = open.poll();
+            heapOperations++;
+            if (side.isClosed(current)) {
+                continue;
+            }
+            side.close(current);
+            settled++;
+            Pathfinder.checkCancelled(settled);
+            double currentCost = side.cost(current);
+
+            double through = currentCost + other.cost(current);
+            if (through < best) {
+                best = through;
+                meeting = current;
+            }
+
+            relaxed += offsets[current + 1] - offsets[current];
+            for (int arc = offsets[current], end = offsets[current + 1]; arc < end; arc++) {
+                int neighbor = targets[arc];
+                double tentativeCost = currentCost + weights[arc];
+                if (tentativeCost < side.cost(neighbor)) {
+                    side.update(neighbor, tentativeCost, current, arc);
+                    open.push(neighbor, tentativeCost);
+                    heapOperations++;
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            return new Pathfinder.PathResult(Collections.emptyList(), 0.0, settled, relaxed, heapOperations);
+        }
+
+        // Upward arcs from the start to the meeting node, in travel order
+        int[] upward = new int[16];
+        int upwardCount = 0;
+        for (int node = meeting; forward.parentArc(node) >= 0; node = sources[forward.parentArc(node)]) {
+            if (upwardCount == upward.length) {
+                upward = Arrays.copyOf(upward, upwardCount * 2);
+            }
+            upward[upwardCount++] = forward.parentArc(node);
+        }
+        NodeSequence sequence = new NodeSequence();
+        sequence.add(startId);
+        for (int i = upwardCount - 1; i >= 0; i--) {
+            appendForward(upward[i], sequence);
+        }
+        // Then back down to the goal along the backward search tree
+        for (int node = meeting; backward.parentArc(node) >= 0; node = sources[backward.parentArc(node)]) {
+            appendReverse(backward.parentArc(node), sequence);
+        }
+
+        List<Node> nodes = new ArrayList<>(sequence.length);
+        for (int i = 0; i < sequence.length; i++) {
+            nodes.add(state.node(sequence.nodes[i]));
+        }
+        return new Pathfinder.PathResult(nodes, best, settled, relaxed, heapOperations);
+    }
+
+    /**
+     * Appends the nodes after the source of an arc up to its target
+     */
+    private void appendForward(int arc, NodeSequence out) {
+        if (lowerHalf[arc] < 0) {
+            out.add(targets[arc]);
+        } else {
+            appendReverse(lowerHalf[arc], out);
+            appendForward(upperHalf[arc], out);
+        }
+    }
+
+    /**
+     * Appends the nodes after the target of an arc down to its source
+     */
+    private void appendReverse(int arc, NodeSequence out) {
+        if (lowerHalf[arc] < 0) {
+            out.add(sources[arc]);
+        } else {
+            appendReverse(upperHalf[arc], out);
+            appendForward(lowerHalf[arc], out);
+        }
+    }
+
+    /**
+     * Growable list of node ids for path unpacking
+     */
+    private static final class NodeSequence {
+        private int[] nodes = new int[16];
+        private int length;
+
+        void add(int node) {
+            if (length == nodes.length) {
+                nodes = Arrays.copyOf(nodes, length * 2);
+            }
+            nodes[length++] = node;
+        }
+    }
+
+    /**
+     * Writes the hierarchy to a file, replacing any existing file
+     *
+     * @param file destination file
+     * @throws IOException if writing fails
+     */
+    public void write(Path file) throws IOException {
+        int nodeCount = rank.length;
+        int arcCount = targets.length;
+        long size = layoutSize(nodeCount, arcCount);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Hierarchy too large to write: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(MAGIC).putInt(VERSION).putInt(nodeCount).putInt(arcCount).putInt(0)
+                .putLong(graphFingerprint);
+        putInts(buffer, rank);
+        putInts(buffer, offsets);
+        putInts(buffer, sources);
+        putInts(buffer, targets);
+        putInts(buffer, lowerHalf);
+        putInts(buffer, upperHalf);
+        for (double weight : weights) {
+            buffer.putDouble(weight);
+        }
+        buffer.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads a hierarchy written by write
+     *
+     * @param file the hierarchy file
+     * @return the hierarchy
+     * @throws IOException if the file cannot be read or is not a valid hierarchy
+     */
+    public static ContractionHierarchy read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a contraction hierarchy: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getLong() != MAGIC) {
+                throw new IOException("Not a contraction hierarchy: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported hierarchy version " + version + ": " + file);
+            }
+            int nodeCount = buffer.getInt();
+            int arcCount = buffer.getInt();
+            buffer.getInt();
+            long fingerprint = buffer.getLong();
+            if (nodeCount < 0 || arcCount < 0 || layoutSize(nodeCount, arcCount) != size) {
+                throw new IOException("Corrupt contraction hierarchy: " + file);
+            }
+
+            int[] rank = getInts(buffer, nodeCount);
+            int[] offsets = getInts(buffer, nodeCount + 1);
+            int[] sources = getInts(buffer, arcCount);
+            int[] targets = getInts(buffer, arcCount);
+            int[] lowerHalf = getInts(buffer, arcCount);
+            int[] upperHalf = getInts(buffer, arcCount);
+            double[] weights = new double[arcCount];
+            buffer.asDoubleBuffer().get(weights);
+
+            if (offsets[0] != 0 || offsets[nodeCount] != arcCount) {
+                throw new IOException("Corrupt contraction hierarchy: " + file);
+            }
+            for (int a = 0; a < arcCount; a++) {
+                if (sources[a] < 0 || sources[a] >= nodeCount || targets[a] < 0 || targets[a] >= nodeCount
+                        || lowerHalf[a] < -1 || lowerHalf[a] >= arcCount
+                        || upperHalf[a] < -1 || upperHalf[a] >= arcCount) {
+                    throw new IOException("Corrupt contraction hierarchy: " + file);
+                }
+            }
+            return new ContractionHierarchy(fingerprint, rank, offsets, sources, targets, weights,
+                    lowerHalf, upperHalf);
+        }
+    }
+
+    /**
+     * Builds the hierarchy for a map file and saves it.
+     * Usage: ContractionHierarchy map-file output.ch
+     *
+     * @param args input map (JSON or snapshot) and output path
+     * @throws Exception if loading, building or writing fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: ContractionHierarchy <map-file> <output.ch>");
+            System.exit(2);
+        }
+        CampusMap map = new CampusMap();
+        map.load(Paths.get(args[0]));
+        long started = System.nanoTime();
+        ContractionHierarchy hierarchy = build(map.getGraph());
+        long elapsed = (System.nanoTime() - started) / 1_000_000;
+        hierarchy.write(Paths.get(args[1]));
+        System.out.println("Contracted " + map.getNodeCount() + " nodes in " + elapsed + " ms, "
+                + hierarchy.arcCount() + " upward arcs written to " + args[1]);
+    }
+
+    private static long layoutSize(long nodeCount, long arcCount) {
+        return HEADER_BYTES + padded(nodeCount * 4) + padded((nodeCount + 1) * 4)
+                + 4 * padded(arcCount * 4) + arcCount * 8;
+    }
+
+    private static long padded(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values) {
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        if ((values.length & 1) != 0) {
+            buffer.putInt(0);
+        }
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + (int) padded(count * 4L));
+        return values;
+    }
+
+    /**
+     * Contracts the nodes of a graph in order of edge difference, using a
+     * mutable adjacency list of the nodes that remain
+     */
+    private static final class Contractor {
+
+        private final CsrGraph graph;
+        private final int nodeCount;
+
+        // Remaining adjacency of each uncontracted node
+        private final int[] degree;
+        private final int[][] neighbor;
+        private final double[][] weight;
+        private final int[][] halfToSelf;       // for shortcuts, upward arc middle -> this node
+        private final int[][] halfToNeighbor;   // for shortcuts, upward arc middle -> neighbor
+
+        private final boolean[] contracted;
+        private final int[] deletedNeighbors;
+        private final int[] rank;
+
+        // Upward arcs in creation order, grouped by source
+        private int arcCount;
+        private int[] arcSource = new int[1024];
+        private int[] arcTarget = new int[1024];
+        private double[] arcWeight = new double[1024];
+        private int[] arcLower = new int[1024];
+        private int[] arcUpper = new int[1024];
+        private final int[] firstArcOf;
+
+        // Witness search state
+        private final double[] witnessCost;
+        private final int[] witnessStamp;
+        private int witnessGeneration;
+        private final IndexedHeap witnessHeap = new IndexedHeap(4);
+
+        Contractor(CsrGraph graph) {
+            this.graph = graph;
+            this.nodeCount = graph.nodeCount();
+            degree = new int[nodeCount];
+            neighbor = new int[nodeCount][];
+            weight = new double[nodeCount][];
+            halfToSelf = new int[nodeCount][];
+            halfToNeighbor = new int[nodeCount][];
+            contracted = new boolean[nodeCount];
+            deletedNeighbors = new int[nodeCount];
+            rank = new int[nodeCount];
+            firstArcOf = new int[nodeCount];
+            witnessCost = new double[nodeCount];
+            witnessStamp = new int[nodeCount];
+            witnessHeap.reset(nodeCount);
+
+            for (int u = 0; u < nodeCount; u++) {
+                int arcs = graph.endArc(u) - graph.firstArc(u);
+                neighbor[u] = new int[Math.max(arcs, 2)];
+                weight[u] = new double[Math.max(arcs, 2)];
+                halfToSelf[u] = new int[Math.max(arcs, 2)];
+                halfToNeighbor[u] = new int[Math.max(arcs, 2)];
+            }
+            for (int u = 0; u < nodeCount; u++) {
+                for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                    int v = graph.target(arc);
+                    if (v != u) {
+                        connect(u, v, graph.weight(arc), -1, -1);
+                    }
+                }
+            }
+        }
+
+        ContractionHierarchy run() {
+            IndexedHeap queue = new IndexedHeap(4);
+            queue.reset(nodeCount);
+            for (int v = 0; v < nodeCount; v++) {
+                queue.push(v, priority(v));
+            }
+
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                // Lazy update: contract only if v is still the least important
+                double current = priority(v);
+                if (!queue.isEmpty() && current > queue.peekKey()) {
+                    queue.push(v, current);
+                    continue;
+                }
+                contract(v);
+                rank[v] = order++;
+                for (int i = 0; i < degree[v]; i++) {
+                    int u = neighbor[v][i];
+                    deletedNeighbors[u]++;
+                    queue.remove(u);
+                    queue.push(u, priority(u));
+                }
+            }
+            return finish();
+        }
+
+        /**
+         * Importance of a node: shortcuts it would add minus the arcs it
+         * removes, plus how many of its neighbors are already gone
+         */
+        private double priority(int v) {
+            int shortcuts = shortcuts(v, false);
+            return shortcuts - degree[v] + deletedNeighbors[v];
+        }
+
+        private void contract(int v) {
+            contracted[v] = true;
+            // Remaining arcs of v become its upward arcs
+            firstArcOf[v] = arcCount;
+            for (int i = 0; i < degree[v]; i++) {
+                int u = neighbor[v][i];
+                int a = addArc(v, u, weight[v][i], halfToSelf[v][i], halfToNeighbor[v][i]);
+                // From here on the slot holds the upward arc v -> u, used as a shortcut half
+                halfToSelf[v][i] = a;
+                disconnect(u, v);
+            }
+            shortcuts(v, true);
+        }
+
+        /**
+         * Counts, or adds, the shortcuts needed between the neighbors of v
+         * when v is removed
+         */
+        private int shortcuts(int v, boolean add) {
+            int count = 0;
+            int n = degree[v];
+            for (int i = 0; i < n; i++) {
+                int u = neighbor[v][i];
+                double toU = weight[v][i];
+                double maxCost = 0;
+                for (int j = i + 1; j < n; j++) {
+                    maxCost = Math.max(maxCost, toU + weight[v][j]);
+                }
+                if (i + 1 >= n) {
+                    break;
+                }
+                witnessSearch(u, v, maxCost);
+                for (int j = i + 1; j < n; j++) {
+                    int w = neighbor[v][j];
+                    double through = toU + weight[v][j];
+                    if (witnessCost(w) <= through) {
+                        continue;
+                    }
+                    count++;
+                    if (add) {
+                        // halfToSelf[v][k] holds the upward arc v -> neighbor k after contract
+                        connect(u, w, through, halfToSelf[v][i], halfToSelf[v][j]);
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Bounded Dijkstra from source over the remaining graph, skipping the
+         * node being contracted
+         */
+        private void witnessSearch(int source, int skipped, double maxCost) {
+            witnessGeneration++;
+            witnessHeap.reset(nodeCount);
+            setWitnessCost(source, 0);
+            witnessHeap.push(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                if (witnessHeap.peekKey() > maxCost) {
+                    break;
+                }
+                int u = witnessHeap.poll();
+                settled++;
+                double cost = witnessCost(u);
+                for (int i = 0; i < degree[u]; i++) {
+                    int w = neighbor[u][i];
+                    if (w == skipped || contracted[w]) {
+                        continue;
+                    }
+                    double candidate = cost + weight[u][i];
+                    if (candidate < witnessCost(w)) {
+                        setWitnessCost(w, candidate);
+                        witnessHeap.push(w, candidate);
+                    }
+                }
+            }
+        }
+
+        private double witnessCost(int node) {
+            return witnessStamp[node] == witnessGeneration ? witnessCost[node] : Double.POSITIVE_INFINITY;
+        }
+
+        private void setWitnessCost(int node, double cost) {
+            witnessStamp[node] = witnessGeneration;
+            witnessCost[node] = cost;
+        }
+
+        /**
+         * Adds or shortens the undirected arc u - w in the remaining graph
+         */
+        private void connect(int u, int w, double cost, int halfU, int halfW) {
+            setArc(u, w, cost, halfU, halfW);
+            setArc(w, u, cost, halfW, halfU);
+        }
+
+        private void setArc(int u, int w, double cost, int halfSelf, int halfNeighbor) {
+            for (int i = 0; i < degree[u]; i++) {
+                if (neighbor[u][i] == w) {
+                    if (cost < weight[u][i]) {
+                        weight[u][i] = cost;
+                        halfToSelf[u][i] = halfSelf;
+                        halfToNeighbor[u][i] = halfNeighbor;
+                    }
+                    return;
+                }
+            }
+            if (degree[u] == neighbor[u].length) {
+                int size = degree[u] * 2;
+                neighbor[u] = Arrays.copyOf(neighbor[u], size);
+                weight[u] = Arrays.copyOf(weight[u], size);
+                halfToSelf[u] = Arrays.copyOf(halfToSelf[u], size);
+                halfToNeighbor[u] = Arrays.copyOf(halfToNeighbor[u], size);
+            }
+            int i = degree[u]++;
+            neighbor[u][i] = w;
+            weight[u][i] = cost;
+            halfToSelf[u][i] = halfSelf;
+            halfToNeighbor[u][i] = halfNeighbor;
+        }
+
+        private void disconnect(int u, int w) {
+            for (int i = 0; i < degree[u]; i++) {
+                if (neighbor[u][i] == w) {
+                    int last = --degree[u];
+                    neighbor[u][i] = neighbor[u][last];
+                    weight[u][i] = weight[u][last];
+                    halfToSelf[u][i] = halfToSelf[u][last];
+                    halfToNeighbor[u][i] = halfToNeighbor[u][last];
+                    return;
+                }
+            }
+        }
+
+        private int addArc(int source, int target, double cost, int lower, int upper) {
+            if (arcCount == arcSource.length) {
+                int size = arcCount * 2;
+                arcSource = Arrays.copyOf(arcSource, size);
+                arcTarget = Arrays.copyOf(arcTarget, size);
+                arcWeight = Arrays.copyOf(arcWeight, size);
+                arcLower = Arrays.copyOf(arcLower, size);
+                arcUpper = Arrays.copyOf(arcUpper, size);
+            }
+            int a = arcCount++;
+            arcSource[a] = source;
+            arcTarget[a] = target;
+            arcWeight[a] = cost;
+            arcLower[a] = lower;
+            arcUpper[a] = upper;
+            return a;
+        }
+
+        /**
+         * Reorders the upward arcs by source node id into CSR form
+         */
+        private ContractionHierarchy finish() {
+            int[] offsets = new int[nodeCount + 1];
+            for (int a = 0; a < arcCount; a++) {
+                offsets[arcSource[a] + 1]++;
+            }
+            for (int u = 0; u < nodeCount; u++) {
+                offsets[u + 1] += offsets[u];
+            }
+            // Arcs of one source were created together, so only the blocks move
+            int[] newIndex = new int[arcCount];
+            for (int a = 0; a < arcCount; a++) {
+                int source = arcSource[a];
+                newIndex[a] = offsets[source] + (a - firstArcOf[source]);
+            }
+            int[] sources = new int[arcCount];
+            int[] targets = new int[arcCount];
+            double[] weights = new double[arcCount];
+            int[] lower = new int[arcCount];
+            int[] upper = new int[arcCount];
+            for (int a = 0; a < arcCount; a++) {
+                int b = newIndex[a];
+                sources[b] = arcSource[a];
+                targets[b] = arcTarget[a];
+                weights[b] = arcWeight[a];
+                lower[b] = arcLower[a] < 0 ? -1 : newIndex[arcLower[a]];
+                upper[b] = arcUpper[a] < 0 ? -1 : newIndex[arcUpper[a]];
+            }
+            return new ContractionHierarchy(graph.fingerprint(), rank, offsets, sources, targets, weights,
+                    lower, upper);
+        }
+    }
+}
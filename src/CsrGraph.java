@@ -0,0 +1,453 @@
+package src;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable compressed sparse row (CSR) adjacency index of the campus graph.
+ * Nodes are identified by dense int ids; the arcs leaving node u are stored
+ * in targets/weights at positions [offsets[u], offsets[u + 1]). Maps that
+ * carry way data, such as imported OpenStreetMap paths, also keep packed
+ * edge attributes per arc.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class CsrGraph {
+
+    /** Edge count from which build runs its passes on the common fork-join pool, given several cores */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // - Fields
+
+    private final double[] latitudes;   // latitude of each node, by id
+    private final double[] longitudes;  // longitude of each node, by id
+    private final byte[] attributes;    // packed NodeAttributes of each node, by id
+    private final int[] offsets;        // first arc of each node, length nodeCount + 1
+    private final int[] targets;        // head node of each arc
+    private final double[] weights;     // weight of each arc
+    private final int[] arcAttributes;  // packed EdgeAttributes of each arc, null if the map has none
+    private final double maxAbsLatitude; // largest |latitude| of any node
+
+    // - Constructor(s)
+
+    /**
+     * Creates a graph over already built CSR arrays. The arrays are not copied.
+     *
+     * @param latitudes latitude of each node
+     * @param longitudes longitude of each node
+     * @param attributes packed attributes of each node
+     * @param offsets arc offsets, length nodeCount + 1
+     * @param targets head node of each arc
+     * @param weights weight of each arc
+     */
+    CsrGraph(double[] latitudes, double[] longitudes, byte[] attributes, int[] offsets, int[] targets,
+            double[] weights) {
+        this(latitudes, longitudes, attributes, offsets, targets, weights, null);
+    }
+
+    /**
+     * Creates a graph over already built CSR arrays with edge attributes.
+     * The arrays are not copied.
+     *
+     * @param latitudes latitude of each node
+     * @param longitudes longitude of each node
+     * @param attributes packed attributes of each node
+     * @param offsets arc offsets, length nodeCount + 1
+     * @param targets head node of each arc
+     * @param weights weight of each arc
+     * @param arcAttributes packed attributes of each arc, or null if there are none
+     */
+    CsrGraph(double[] latitudes, double[] longitudes, byte[] attributes, int[] offsets, int[] targets,
+            double[] weights, int[] arcAttributes) {
+        this.arcAttributes = arcAttributes;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.attributes = attributes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        double max = 0;
+        for (double latitude : latitudes) {
+            max = Math.max(max, Math.abs(latitude));
+        }
+        this.maxAbsLatitude = max;
+    }
+
+    // - Methods
+
+    /**
+     * Builds an undirected CSR graph from an edge list. Every edge produces
+     * one arc in each direction, and the arcs of a node are in edge order.
+     * Large edge lists are indexed in parallel with the same result.
+     *
+     * @param latitudes latitude of each node
+     * @param longitudes longitude of each node
+     * @param attributes packed attributes of each node, or null if there are none
+     * @param from first endpoint of each edge
+     * @param to second endpoint of each edge
+     * @param edgeWeights weight of each edge
+     * @param edgeCount number of edges used from the edge arrays
+     * @return the built graph
+     */
+    public static CsrGraph build(double[] latitudes, double[] longitudes, byte[] attributes,
+            int[] from, int[] to, double[] edgeWeights, int edgeCount) {
+        return build(latitudes, longitudes, attributes, from, to, edgeWeights, null, edgeCount);
+    }
+
+    /**
+     * Builds an undirected CSR graph from an edge list with edge attributes;
+     * both arcs of an edge get its attributes
+     *
+     * @param latitudes latitude of each node
+     * @param longitudes longitude of each node
+     * @param attributes packed attributes of each node, or null if there are none
+     * @param from first endpoint of each edge
+     * @param to second endpoint of each edge
+     * @param edgeWeights weight of each edge
+     * @param edgeAttributes packed EdgeAttributes of each edge, or null if there are none
+     * @param edgeCount number of edges used from the edge arrays
+     * @return the built graph
+     */
+    static CsrGraph build(double[] latitudes, double[] longitudes, byte[] attributes,
+            int[] from, int[] to, double[] edgeWeights, int[] edgeAttributes, int edgeCount) {
+        int nodeCount = latitudes.length;
+        if (attributes == null) {
+            attributes = new byte[nodeCount];
+        }
+        if (isParallel(edgeCount)) {
+            return buildParallel(latitudes, longitudes, attributes, from, to, edgeWeights, edgeAttributes,
+                    edgeCount);
+        }
+        int[] offsets = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[from[i] + 1]++;
+            offsets[to[i] + 1]++;
+        }
+        for (int u = 0; u < nodeCount; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        int[] targets = new int[edgeCount * 2];
+        double[] weights = new double[edgeCount * 2];
+        int[] arcAttributes = edgeAttributes == null ? null : new int[edgeCount * 2];
+        int[] next = new int[nodeCount];
+        System.arraycopy(offsets, 0, next, 0, nodeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            int a = next[from[i]]++;
+            targets[a] = to[i];
+            weights[a] = edgeWeights[i];
+            int b = next[to[i]]++;
+            targets[b] = from[i];
+            weights[b] = edgeWeights[i];
+            if (arcAttributes != null) {
+                arcAttributes[a] = edgeAttributes[i];
+                arcAttributes[b] = edgeAttributes[i];
+            }
+        }
+        return new CsrGraph(latitudes, longitudes, attributes, offsets, targets, weights, arcAttributes);
+    }
+
+    /**
+     * Checks whether work over this many edges is worth splitting across the
+     * common fork-join pool; with a single worker the atomic updates only
+     * slow it down
+     */
+    static boolean isParallel(int edgeCount) {
+        return edgeCount >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Builds the arrays of build in three parallel passes: node degrees are
+     * counted with atomic increments and turned into offsets by a parallel
+     * prefix sum, every arc claims a slot of its tail node, and each node
+     * then sorts its slots back into edge order so the result does not
+     * depend on thread timing.
+     */
+    private static CsrGraph buildParallel(double[] latitudes, double[] longitudes, byte[] attributes,
+            int[] from, int[] to, double[] edgeWeights, int[] edgeAttributes, int edgeCount) {
+        int nodeCount = latitudes.length;
+        AtomicIntegerArray degrees = new AtomicIntegerArray(nodeCount + 1);
+        IntStream.range(0, edgeCount).parallel().forEach(i -> {
+            degrees.incrementAndGet(from[i] + 1);
+            degrees.incrementAndGet(to[i] + 1);
+        });
+        int[] offsets = new int[nodeCount + 1];
+        Arrays.parallelSetAll(offsets, degrees::get);
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        // Arc slots hold 2 * edge + side, side 0 for the arc leaving from[edge]
+        AtomicIntegerArray next = new AtomicIntegerArray(offsets);
+        int[] arcEdges = new int[edgeCount * 2];
+        IntStream.range(0, edgeCount).parallel().forEach(i -> {
+            arcEdges[next.getAndIncrement(from[i])] = 2 * i;
+            arcEdges[next.getAndIncrement(to[i])] = 2 * i + 1;
+        });
+
+        int[] targets = new int[edgeCount * 2];
+        double[] weights = new double[edgeCount * 2];
+        int[] arcAttributes = edgeAttributes == null ? null : new int[edgeCount * 2];
+        IntStream.range(0, nodeCount).parallel().forEach(u -> {
+            Arrays.sort(arcEdges, offsets[u], offsets[u + 1]);
+            for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+                int edge = arcEdges[a] >>> 1;
+                targets[a] = (arcEdges[a] & 1) == 0 ? to[edge] : from[edge];
+                weights[a] = edgeWeights[edge];
+                if (arcAttributes != null) {
+                    arcAttributes[a] = edgeAttributes[edge];
+                }
+            }
+        });
+        return new CsrGraph(latitudes, longitudes, attributes, offsets, targets, weights, arcAttributes);
+    }
+
+    /**
+     * Gets the number of nodes
+     *
+     * @return node count
+     */
+    public int nodeCount() {
+        return latitudes.length;
+    }
+
+    /**
+     * Gets the number of directed arcs (twice the undirected edge count)
+     *
+     * @return arc count
+     */
+    public int arcCount() {
+        return targets.length;
+    }
+
+    /**
+     * Gets the index of the first arc leaving a node
+     *
+     * @param node node id
+     * @return first arc index
+     */
+    public int firstArc(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Gets the index one past the last arc leaving a node
+     *
+     * @param node node id
+     * @return end arc index (exclusive)
+     */
+    public int endArc(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     * Gets the head node of an arc
+     *
+     * @param arc arc index
+     * @return target node id
+     */
+    public int target(int arc) {
+        return targets[arc];
+    }
+
+    /**
+     * Gets the weight of an arc
+     *
+     * @param arc arc index
+     * @return arc weight
+     */
+    public double weight(int arc) {
+        return weights[arc];
+    }
+
+    /**
+     * Gets the latitude of a node
+     *
+     * @param node node id
+     * @return latitude
+     */
+    public double latitude(int node) {
+        return latitudes[node];
+    }
+
+    /**
+     * Gets the longitude of a node
+     *
+     * @param node node id
+     * @return longitude
+     */
+    public double longitude(int node) {
+        return longitudes[node];
+    }
+
+    /**
+     * Checks whether a node is a step
+     *
+     * @param node node id
+     * @return true for step nodes
+     */
+    public boolean isStep(int node) {
+        return NodeAttributes.isStep(attributes[node]);
+    }
+
+    /**
+     * Gets the surface of a node
+     *
+     * @param node node id
+     * @return surface
+     */
+    public Surface surface(int node) {
+        return NodeAttributes.surface(attributes[node]);
+    }
+
+    /**
+     * Gets the packed attribute byte of a node
+     *
+     * @param node node id
+     * @return attributes as packed by NodeAttributes
+     */
+    byte attributes(int node) {
+        return attributes[node];
+    }
+
+    /**
+     * Gets the kind of way an arc belongs to
+     *
+     * @param arc arc index
+     * @return highway, UNKNOWN if the map gives none
+     */
+    public Highway highway(int arc) {
+        return EdgeAttributes.highway(arcAttributes(arc));
+    }
+
+    /**
+     * Gets the width of the way an arc belongs to
+     *
+     * @param arc arc index
+     * @return width in meters, NaN if unknown
+     */
+    public double width(int arc) {
+        return EdgeAttributes.width(arcAttributes(arc));
+    }
+
+    /**
+     * Gets the packed attributes of an arc
+     *
+     * @param arc arc index
+     * @return attributes as packed by EdgeAttributes
+     */
+    int arcAttributes(int arc) {
+        return arcAttributes == null ? EdgeAttributes.NONE : arcAttributes[arc];
+    }
+
+    /**
+     * Checks whether the map gave edge attributes
+     *
+     * @return true if arcs carry attributes
+     */
+    boolean hasArcAttributes() {
+        return arcAttributes != null;
+    }
+
+    /**
+     * Creates a graph with the same nodes and arcs but other arc weights.
+     * Every array except the weights is shared.
+     *
+     * @param newWeights weight of each arc
+     * @return the reweighted graph
+     */
+    CsrGraph withWeights(double[] newWeights) {
+        if (newWeights.length != weights.length) {
+            throw new IllegalArgumentException("Expected " + weights.length + " weights");
+        }
+        return new CsrGraph(latitudes, longitudes, attributes, offsets, targets, newWeights, arcAttributes);
+    }
+
+    /**
+     * Creates a copy of the graph with its nodes renumbered. Node u becomes
+     * node newIds[u] and keeps its arcs in their order.
+     *
+     * @param newIds new id of each node, a permutation of the node ids
+     * @return the renumbered graph
+     */
+    CsrGraph renumber(int[] newIds) {
+        int nodeCount = nodeCount();
+        double[] newLatitudes = new double[nodeCount];
+        double[] newLongitudes = new double[nodeCount];
+        byte[] newAttributes = new byte[nodeCount];
+        int[] newOffsets = new int[nodeCount + 1];
+        for (int u = 0; u < nodeCount; u++) {
+            int v = newIds[u];
+            newLatitudes[v] = latitudes[u];
+            newLongitudes[v] = longitudes[u];
+            newAttributes[v] = attributes[u];
+            newOffsets[v + 1] = offsets[u + 1] - offsets[u];
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            newOffsets[v + 1] += newOffsets[v];
+        }
+
+        int[] newTargets = new int[targets.length];
+        double[] newWeights = new double[weights.length];
+        int[] newArcAttributes = arcAttributes == null ? null : new int[arcAttributes.length];
+        for (int u = 0; u < nodeCount; u++) {
+            int a = newOffsets[newIds[u]];
+            for (int arc = offsets[u]; arc < offsets[u + 1]; arc++, a++) {
+                newTargets[a] = newIds[targets[arc]];
+                newWeights[a] = weights[arc];
+                if (newArcAttributes != null) {
+                    newArcAttributes[a] = arcAttributes[arc];
+                }
+            }
+        }
+        return new CsrGraph(newLatitudes, newLongitudes, newAttributes, newOffsets, newTargets, newWeights,
+                newArcAttributes);
+    }
+
+    /**
+     * Gets the largest absolute latitude of any node, which bounds how much
+     * a degree of longitude shrinks anywhere in the graph
+     *
+     * @return largest |latitude| in degrees
+     */
+    public double maxAbsLatitude() {
+        return maxAbsLatitude;
+    }
+
+    /**
+     * Finds the arc from one node to another, or -1 if they are not adjacent.
+     * When parallel arcs exist the lightest one is returned.
+     *
+     * @param from tail node id
+     * @param to head node id
+     * @return arc index or -1
+     */
+    public int findArc(int from, int to) {
+        int best = -1;
+        for (int a = offsets[from], end = offsets[from + 1]; a < end; a++) {
+            if (targets[a] == to && (best < 0 || weights[a] < weights[best])) {
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of the topology and weights, used to
+     * check that data derived from a graph still belongs to it
+     *
+     * @return fingerprint
+     */
+    public long fingerprint() {
+        long h = 0x9E3779B97F4A7C15L ^ latitudes.length;
+        for (int offset : offsets) {
+            h = (h ^ offset) * 0x100000001B3L;
+        }
+        for (int a = 0; a < targets.length; a++) {
+            h = (h ^ targets[a]) * 0x100000001B3L;
+            h = (h ^ Double.doubleToLongBits(weights[a])) * 0x100000001B3L;
+        }
+        return h ^ (h >>> 31);
+    }
+}
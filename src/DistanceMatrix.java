@@ -0,0 +1,287 @@
+package src;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Dense matrix of shortest path distances between a list of source nodes
+ * and a list of target nodes. Each source grows one Dijkstra tree that stops
+ * as soon as every target is settled, and sources run in parallel on a
+ * fork-join pool. Targets outside the source's connected component are
+ * not waited for, so unreachable pairs cost nothing. Distances are stored
+ * row-major in a single double[], with positive infinity for unreachable
+ * pairs; no paths are built.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class DistanceMatrix {
+
+    private static final int ROWS_PER_TASK = 4;
+
+    // - Fields
+
+    private final int[] sources;        // source node id of each row
+    private final int[] targets;        // target node id of each column
+    private final double[] distances;   // distance of row r, column c at [r * columns + c]
+
+    // - Constructor(s)
+
+    private DistanceMatrix(int[] sources, int[] targets, double[] distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    // - Methods
+
+    /**
+     * Computes the distances between nodes on the common fork-join pool
+     *
+     * @param map the map
+     * @param sources source nodes, one per row
+     * @param targets target nodes, one per column
+     * @return the matrix
+     */
+    public static DistanceMatrix compute(CampusMap map, List<Node> sources, List<Node> targets) {
+        return compute(map, ids(sources), ids(targets), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the distances between node ids on the common fork-join pool
+     *
+     * @param map the map
+     * @param sources source node ids, one per row
+     * @param targets target node ids, one per column
+     * @return the matrix
+     */
+    public static DistanceMatrix compute(CampusMap map, int[] sources, int[] targets) {
+        return compute(map, sources, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the distances between node ids on the given pool
+     *
+     * @param map the map
+     * @param sources source node ids, one per row
+     * @param targets target node ids, one per column
+     * @param pool pool the rows are computed on
+     * @return the matrix
+     */
+    public static DistanceMatrix compute(CampusMap map, int[] sources, int[] targets, ForkJoinPool pool) {
+        return compute(map, sources, targets, RoutingProfile.FASTEST, pool);
+    }
+
+    /**
+     * Computes the distances between node ids for a routing profile on the
+     * given pool
+     *
+     * @param map the map
+     * @param sources source node ids, one per row
+     * @param targets target node ids, one per column
+     * @param profile routing profile whose weights are used
+     * @param pool pool the rows are computed on
+     * @return the matrix
+     */
+    public static DistanceMatrix compute(CampusMap map, int[] sources, int[] targets, RoutingProfile profile,
+            ForkJoinPool pool) {
+        MapState state = map.state();
+        CsrGraph graph = state.graph(profile);
+        ComponentLabels components = state.components(profile);
+        int nodeCount = graph.nodeCount();
+        int[] rowSources = sources.clone();
+        int[] columnTargets = targets.clone();
+        for (int id : rowSources) {
+            checkNode(id, nodeCount);
+        }
+
+        // Columns of each target node, chained so repeated targets are filled together
+        int[] firstColumn = new int[nodeCount];
+        int[] nextColumn = new int[columnTargets.length];
+        Arrays.fill(firstColumn, -1);
+        int[] targetsInComponent = new int[components.componentCount()];
+        for (int c = columnTargets.length - 1; c >= 0; c--) {
+            int id = checkNode(columnTargets[c], nodeCount);
+            if (firstColumn[id] < 0) {
+                targetsInComponent[components.label(id)]++;
+            }
+            nextColumn[c] = firstColumn[id];
+            firstColumn[id] = c;
+        }
+
+        double[] distances = new double[rowSources.length * columnTargets.length];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        if (distances.length > 0) {
+            Rows rows = new Rows(graph, components, rowSources, columnTargets.length, firstColumn, nextColumn,
+                    targetsInComponent, distances, 0, rowSources.length);
+            pool.invoke(rows);
+        }
+        return new DistanceMatrix(rowSources, columnTargets, distances);
+    }
+
+    /**
+     * Gets the number of rows (sources)
+     *
+     * @return row count
+     */
+    public int rows() {
+        return sources.length;
+    }
+
+    /**
+     * Gets the number of columns (targets)
+     *
+     * @return column count
+     */
+    public int columns() {
+        return targets.length;
+    }
+
+    /**
+     * Gets the source node id of a row
+     *
+     * @param row row index
+     * @return node id
+     */
+    public int source(int row) {
+        return sources[row];
+    }
+
+    /**
+     * Gets the target node id of a column
+     *
+     * @param column column index
+     * @return node id
+     */
+    public int target(int column) {
+        return targets[column];
+    }
+
+    /**
+     * Gets the distance from a row's source to a column's target
+     *
+     * @param row row index
+     * @param column column index
+     * @return distance in meters, positive infinity if unreachable
+     */
+    public double get(int row, int column) {
+        return distances[row * targets.length + column];
+    }
+
+    /**
+     * Gets the distances as a row-major array. The array is the matrix's own
+     * storage and is not copied.
+     *
+     * @return distances, row r and column c at index r * columns() + c
+     */
+    public double[] getDistances() {
+        return distances;
+    }
+
+    private static int[] ids(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).getId();
+        }
+        return ids;
+    }
+
+    private static int checkNode(int id, int nodeCount) {
+        if (id < 0 || id >= nodeCount) {
+            throw new IllegalArgumentException("Node id " + id + " is not in the map");
+        }
+        return id;
+    }
+
+    /**
+     * Computes a range of rows, splitting it in halves until it is small
+     */
+    private static final class Rows extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CsrGraph graph;
+        private final ComponentLabels components;
+        private final int[] sources;
+        private final int columns;
+        private final int[] firstColumn;
+        private final int[] nextColumn;
+        private final int[] targetsInComponent;     // distinct targets in each component
+        private final double[] distances;
+        private final int from;
+        private final int to;
+
+        Rows(CsrGraph graph, ComponentLabels components, int[] sources, int columns, int[] firstColumn,
+                int[] nextColumn, int[] targetsInComponent, double[] distances, int from, int to) {
+            this.graph = graph;
+            this.components = components;
+            this.sources = sources;
+            this.columns = columns;
+            this.firstColumn = firstColumn;
+            this.nextColumn = nextColumn;
+            this.targetsInComponent = targetsInComponent;
+            this.distances = distances;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Rows(graph, components, sources, columns, firstColumn, nextColumn,
+                                targetsInComponent, distances, from, middle),
+                        new Rows(graph, components, sources, columns, firstColumn, nextColumn,
+                                targetsInComponent, distances, middle, to));
+                return;
+            }
+            SearchWorkspace workspace = Pathfinder.workspace();
+            for (int row = from; row < to; row++) {
+                computeRow(row, workspace);
+            }
+        }
+
+        /**
+         * Grows a Dijkstra tree from the row's source until every target it
+         * can reach is settled
+         */
+        private void computeRow(int row, SearchWorkspace workspace) {
+            int nodeCount = graph.nodeCount();
+            int rowStart = row * columns;
+            int remaining = targetsInComponent[components.label(sources[row])];
+            if (remaining == 0) {
+                return;
+            }
+            workspace.begin(nodeCount);
+            OpenList open = workspace.openList(SearchOptions.OpenListType.QUATERNARY_HEAP, nodeCount);
+            workspace.update(sources[row], 0, -1);
+            open.push(sources[row], 0);
+
+            while (remaining > 0 && !open.isEmpty()) {
+                int current = open.poll();
+                if (workspace.isClosed(current)) {
+                    continue;
+                }
+                workspace.close(current);
+                double currentCost = workspace.cost(current);
+                if (firstColumn[current] >= 0) {
+                    for (int c = firstColumn[current]; c >= 0; c = nextColumn[c]) {
+                        distances[rowStart + c] = currentCost;
+                    }
+                    remaining--;
+                }
+
+                for (int arc = graph.firstArc(current), end = graph.endArc(current); arc < end; arc++) {
+                    int neighbor = graph.target(arc);
+                    double tentativeCost = currentCost + graph.weight(arc);
+                    if (tentativeCost < workspace.cost(neighbor)) {
+                        workspace.update(neighbor, tentativeCost, current);
+                        open.push(neighbor, tentativeCost);
+                    }
+                }
+            }
+        }
+    }
+}
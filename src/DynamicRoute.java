@@ -0,0 +1,372 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A route between two fixed nodes that follows edge weight updates without
+ * searching again from scratch, using Lifelong Planning A* (Koenig and
+ * Likhachev). For every node it has touched it keeps the distance found so
+ * far (g) and a one-step lookahead of it (rhs); after an update only the two
+ * ends of each changed edge are re-examined, and the repair spreads only as
+ * far as the change actually matters to the route. The heuristic is the
+ * scaled great-circle distance, which does not depend on weights; it stays
+ * consistent through updates because the map rejects any weight below that
+ * scaled distance between the edge's nodes. Weights are equal both ways, so
+ * the arcs leaving a node double as the arcs entering it.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class DynamicRoute {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    // - Fields
+
+    private final CampusMap map;
+    private final RoutingProfile profile;
+    private final double startLatitude;     // where the start is, to find it again after a reload
+    private final double startLongitude;
+    private final double goalLatitude;
+    private final double goalLongitude;
+    private int start;              // start node id in the current state
+    private int goal;               // goal node id in the current state
+    private MapState state;         // map version the search state is up to date with
+    private CsrGraph graph;         // profile graph of that version
+    private Heuristic heuristic;    // great-circle bound towards the goal
+    private double[] g;             // distance from the start found so far
+    private double[] rhs;           // best distance through a neighbour's g
+    private KeyQueue queue;         // locally inconsistent nodes, g != rhs
+    private Pathfinder.PathResult result;   // route of the current version, null until computed
+
+    // - Constructor(s)
+
+    /**
+     * Creates a route for the FASTEST profile
+     *
+     * @param map the map to route on
+     * @param start start node
+     * @param goal goal node
+     */
+    public DynamicRoute(CampusMap map, Node start, Node goal) {
+        this(map, start, goal, RoutingProfile.FASTEST);
+    }
+
+    /**
+     * Creates a route; nothing is searched until route is called
+     *
+     * @param map the map to route on
+     * @param start start node
+     * @param goal goal node
+     * @param profile weights to route by
+     */
+    public DynamicRoute(CampusMap map, Node start, Node goal, RoutingProfile profile) {
+        this.map = map;
+        this.profile = profile;
+        this.startLatitude = start.getX();
+        this.startLongitude = start.getY();
+        this.goalLatitude = goal.getX();
+        this.goalLongitude = goal.getY();
+        this.start = start.getId();
+        this.goal = goal.getId();
+        reset(map.state());
+    }
+
+    // - Methods
+
+    /**
+     * Gets the shortest route on the map as it is now. Edge updates made since
+     * the last call are repaired incrementally; the settled node count of the
+     * result is the work this call did, zero if nothing changed. A call on an
+     * interrupted thread stops with a CancellationException; the next call
+     * carries on from where it stopped.
+     *
+     * @return the route, empty if the goal is unreachable
+     * @throws java.util.concurrent.CancellationException if the thread is interrupted
+     * @throws IllegalStateException if the map was loaded again without a
+     *         node at the start's or the goal's coordinates
+     */
+    public synchronized Pathfinder.PathResult route() {
+        MapState current = map.state();
+        if (current.version() != state.version()) {
+            List<CampusMap.EdgeChange> changes = map.changesSince(state.version(), current.version());
+            if (changes == null) {
+                // Node ids are renumbered on every load, find the ends again by position
+                start = find(current, startLatitude, startLongitude);
+                goal = find(current, goalLatitude, goalLongitude);
+                reset(current);
+            } else {
+                state = current;
+                graph = current.graph(profile);
+                for (CampusMap.EdgeChange change : changes) {
+                    updateVertex(change.getFrom());
+                    updateVertex(change.getTo());
+                }
+                result = null;
+            }
+        }
+        if (result == null) {
+            result = computeShortestPath();
+        } else {
+            result = new Pathfinder.PathResult(result.getPath(), result.getDistance());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the node at exactly a position
+     *
+     * @throws IllegalStateException if no node is there
+     */
+    private static int find(MapState state, double latitude, double longitude) {
+        int id = state.contents().spatialIndex().nearest(latitude, longitude);
+        if (id < 0 || state.graph().latitude(id) != latitude || state.graph().longitude(id) != longitude) {
+            throw new IllegalStateException("Map was reloaded without a node at " + latitude + ", " + longitude);
+        }
+        return id;
+    }
+
+    /**
+     * Starts over with empty search state on one version of the map
+     */
+    private void reset(MapState newState) {
+        state = newState;
+        graph = newState.graph(profile);
+        heuristic = new Heuristic(newState, SearchOptions.HeuristicType.HAVERSINE, goal, start);
+        int nodeCount = graph.nodeCount();
+        g = new double[nodeCount];
+        rhs = new double[nodeCount];
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        queue = new KeyQueue(nodeCount);
+        rhs[start] = 0;
+        queue.set(start, heuristic.estimate(start), 0);
+        result = null;
+    }
+
+    /**
+     * Settles nodes until the goal is locally consistent and no queued node
+     * could still improve it
+     */
+    private Pathfinder.PathResult computeShortestPath() {
+        int settled = 0;
+        int relaxed = 0;
+        int heapOperations = 0;
+        while (!queue.isEmpty() && (isBefore(queue.topPrimary(), queue.topSecondary(), primaryKey(goal),
+                secondaryKey(goal)) || rhs[goal] != g[goal])) {
+            // Checked while the next node is still queued, so a cancelled
+            // repair leaves consistent state that the next call resumes from
+            Pathfinder.checkCancelled(settled);
+            int u = queue.poll();
+            heapOperations++;
+            settled++;
+            relaxed += graph.endArc(u) - graph.firstArc(u);
+            if (g[u] > rhs[u]) {
+                // Overconsistent: the node got cheaper, pass it on
+                g[u] = rhs[u];
+                for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                    int v = graph.target(arc);
+                    double cost = g[u] + graph.weight(arc);
+                    if (v != start && cost < rhs[v]) {
+                        rhs[v] = cost;
+                        heapOperations += updateQueue(v);
+                    }
+                }
+            } else {
+                // Underconsistent: the node got dearer, let it and its neighbours look again
+                g[u] = INFINITY;
+                heapOperations += updateVertex(u);
+                for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                    heapOperations += updateVertex(graph.target(arc));
+                }
+            }
+        }
+        return new Pathfinder.PathResult(extractPath(), g[goal] == INFINITY ? 0.0 : g[goal], settled, relaxed,
+                heapOperations);
+    }
+
+    /**
+     * Recomputes the lookahead of a node and requeues it if inconsistent
+     *
+     * @return heap operations done
+     */
+    private int updateVertex(int u) {
+        if (u != start) {
+            double best = INFINITY;
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                best = Math.min(best, g[graph.target(arc)] + graph.weight(arc));
+            }
+            rhs[u] = best;
+        }
+        return updateQueue(u);
+    }
+
+    private int updateQueue(int u) {
+        if (g[u] != rhs[u]) {
+            queue.set(u, primaryKey(u), secondaryKey(u));
+            return 1;
+        }
+        if (queue.contains(u)) {
+            queue.remove(u);
+            return 1;
+        }
+        return 0;
+    }
+
+    private double primaryKey(int u) {
+        return Math.min(g[u], rhs[u]) + heuristic.estimate(u);
+    }
+
+    private double secondaryKey(int u) {
+        return Math.min(g[u], rhs[u]);
+    }
+
+    private static boolean isBefore(double primary, double secondary, double otherPrimary, double otherSecondary) {
+        return primary < otherPrimary || (primary == otherPrimary && secondary < otherSecondary);
+    }
+
+    /**
+     * Walks back from the goal, each step to the neighbour the goal's
+     * distance came through
+     */
+    private List<Node> extractPath() {
+        if (g[goal] == INFINITY) {
+            return Collections.emptyList();
+        }
+        List<Node> path = new ArrayList<>();
+        path.add(state.node(goal));
+        int u = goal;
+        for (int steps = 0; u != start; steps++) {
+            int next = -1;
+            double best = INFINITY;
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                double through = g[graph.target(arc)] + graph.weight(arc);
+                if (through < best) {
+                    best = through;
+                    next = graph.target(arc);
+                }
+            }
+            if (next < 0 || steps >= g.length) {
+                return Collections.emptyList();
+            }
+            u = next;
+            path.add(state.node(u));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Indexed binary min-heap of node ids ordered by a two-part key,
+     * compared lexicographically as LPA* requires
+     */
+    private static final class KeyQueue {
+
+        private final int[] nodes;          // node id in each heap slot
+        private final double[] primary;     // first key part in each slot
+        private final double[] secondary;   // second key part in each slot
+        private final int[] position;       // heap slot of each node id, -1 if absent
+        private int size;
+
+        KeyQueue(int nodeCount) {
+            nodes = new int[nodeCount];
+            primary = new double[nodeCount];
+            secondary = new double[nodeCount];
+            position = new int[nodeCount];
+            Arrays.fill(position, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int node) {
+            return position[node] >= 0;
+        }
+
+        double topPrimary() {
+            return primary[0];
+        }
+
+        double topSecondary() {
+            return secondary[0];
+        }
+
+        int poll() {
+            int top = nodes[0];
+            remove(top);
+            return top;
+        }
+
+        /**
+         * Queues a node or moves it to a new key, up or down
+         */
+        void set(int node, double first, double second) {
+            int slot = position[node];
+            if (slot < 0) {
+                slot = size++;
+            }
+            place(slot, node, first, second);
+            siftUp(slot);
+            siftDown(position[node]);
+        }
+
+        void remove(int node) {
+            int slot = position[node];
+            position[node] = -1;
+            size--;
+            if (slot == size) {
+                return;
+            }
+            int moved = nodes[size];
+            place(slot, moved, primary[size], secondary[size]);
+            siftUp(slot);
+            siftDown(position[moved]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) / 2;
+                if (!isBefore(primary[slot], secondary[slot], primary[parent], secondary[parent])) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int smallest = slot;
+                for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < size; child++) {
+                    if (isBefore(primary[child], secondary[child], primary[smallest], secondary[smallest])) {
+                        smallest = child;
+                    }
+                }
+                if (smallest == slot) {
+                    return;
+                }
+                swap(slot, smallest);
+                slot = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int node = nodes[a];
+            double first = primary[a];
+            double second = secondary[a];
+            place(a, nodes[b], primary[b], secondary[b]);
+            place(b, node, first, second);
+        }
+
+        private void place(int slot, int node, double first, double second) {
+            nodes[slot] = node;
+            primary[slot] = first;
+            secondary[slot] = second;
+            position[node] = slot;
+        }
+    }
+}
@@ -13,6 +13,7 @@ public class Edge {
     private Node n1;        // first node in edge
     private Node n2;        // second node in edge
     private double weight;  // weight of the edge
+    private int attributes; // packed highway, surface and width, see EdgeAttributes
 
     // - Constructor(s)
 
@@ -57,4 +58,40 @@ public class Edge {
     public double getWeight() {
         return weight;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the kind of way the edge belongs to
+     * 
+     * @return highway, UNKNOWN if the map gives none
+     */
+    public Highway getHighway() {
+        return EdgeAttributes.highway(attributes);
+    }
+
+    /**
+     * Gets the width of the way
+     * 
+     * @return width in meters, NaN if unknown
+     */
+    public double getWidth() {
+        return EdgeAttributes.width(attributes);
+    }
+
+    /**
+     * Sets the packed attributes of the edge, used by CampusMap when indexing
+     * 
+     * @param attributes packed EdgeAttributes
+     */
+    void setAttributes(int attributes) {
+        this.attributes = attributes;
+    }
+
+    /**
+     * Sets the weight of the edge, after the map updated it
+     * 
+     * @param weight new weight
+     */
+    void setWeight(double weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,58 @@
+package src;
+
+/**
+ * Packing of the per-edge attribute int: the low five bits hold the Highway
+ * ordinal, the next four the Surface ordinal of the way, and bits 9 to 20
+ * the width in decimeters, zero when unknown.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class EdgeAttributes {
+
+    /** Attributes of an edge with no data: unknown highway, surface and width */
+    static final int NONE = 0;
+
+    private static final int HIGHWAY_MASK = 0x1F;
+    private static final int SURFACE_SHIFT = 5;
+    private static final int SURFACE_MASK = 0x0F;
+    private static final int WIDTH_SHIFT = 9;
+    private static final int WIDTH_MASK = 0xFFF;    // up to 409.5 m
+
+    private EdgeAttributes() {
+    }
+
+    // - Methods
+
+    /**
+     * Packs attributes into an int
+     *
+     * @param highway kind of way
+     * @param surface surface of the way
+     * @param width width in meters, NaN or not positive if unknown
+     * @return attribute int
+     */
+    static int of(Highway highway, Surface surface, double width) {
+        int decimeters = width > 0 ? (int) Math.min(WIDTH_MASK, Math.max(1, Math.round(width * 10))) : 0;
+        return highway.ordinal() | (surface.ordinal() << SURFACE_SHIFT) | (decimeters << WIDTH_SHIFT);
+    }
+
+    static Highway highway(int attributes) {
+        return Highway.of(attributes & HIGHWAY_MASK);
+    }
+
+    static Surface surface(int attributes) {
+        return Surface.of((attributes >>> SURFACE_SHIFT) & SURFACE_MASK);
+    }
+
+    /**
+     * Gets the width of an edge
+     *
+     * @param attributes packed attributes
+     * @return width in meters, NaN if unknown
+     */
+    static double width(int attributes) {
+        int decimeters = (attributes >>> WIDTH_SHIFT) & WIDTH_MASK;
+        return decimeters == 0 ? Double.NaN : decimeters / 10.0;
+    }
+}
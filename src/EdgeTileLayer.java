@@ -0,0 +1,215 @@
+package src;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * The static edge and node layer of the map view, rendered once per zoom
+ * level into fixed-size screen tiles and then only copied on repaint.
+ * Each tile draws just the nodes a SpatialIndex box query returns for it,
+ * padded by a short distance; the few edges longer than that are kept in a
+ * separate list and tested against every tile so crossing edges are not lost.
+ * Tiles are kept in a least recently used cache and dropped when the map
+ * is reloaded. Used from the event dispatch thread only.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class EdgeTileLayer {
+
+    /** Tile edge in screen pixels */
+    static final int TILE_SIZE = 256;
+
+    private static final int MAX_TILES = 192;   // about 48 MB of ARGB tiles
+    private static final int NODE_SIZE = 10;
+    private static final float EDGE_WIDTH = 3.0f;
+    private static final int SHORT_EDGE = 64;   // longest edge found by the padded node query, map pixels
+    private static final BufferedImage EMPTY = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    // - Fields
+
+    private final CampusMap map;
+    private final MapProjection projection;
+    private final LinkedHashMap<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private long graphVersion = -1;     // map version the tiles were drawn from
+    private int[] longEdges = new int[0];   // end pairs of edges longer than SHORT_EDGE
+
+    // - Constructor(s)
+
+    EdgeTileLayer(CampusMap map, MapProjection projection) {
+        this.map = map;
+        this.projection = projection;
+    }
+
+    // - Methods
+
+    /**
+     * Draws the layer into the visible part of a component
+     *
+     * @param g graphics of the component, without the map transform
+     * @param clip visible area in component pixels
+     * @param scale map pixels to screen pixels
+     * @param offsetX map x translation applied before scaling
+     * @param offsetY map y translation applied before scaling
+     */
+    void paint(Graphics2D g, Rectangle clip, double scale, double offsetX, double offsetY) {
+        if (graphVersion != map.getVersion()) {
+            tiles.clear();
+            graphVersion = map.getVersion();
+            longEdges = findLongEdges();
+        }
+        // Tiles are laid out in scaled map pixels, so the grid moves with the map
+        int originX = (int) Math.floor(offsetX * scale);
+        int originY = (int) Math.floor(offsetY * scale);
+        int firstColumn = Math.floorDiv(clip.x - originX, TILE_SIZE);
+        int lastColumn = Math.floorDiv(clip.x + clip.width - 1 - originX, TILE_SIZE);
+        int firstRow = Math.floorDiv(clip.y - originY, TILE_SIZE);
+        int lastRow = Math.floorDiv(clip.y + clip.height - 1 - originY, TILE_SIZE);
+        long level = Math.round(scale * 1000);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                long key = (level << 40) | ((column & 0xFFFFFL) << 20) | (row & 0xFFFFFL);
+                BufferedImage tile = tiles.get(key);
+                if (tile == null) {
+                    tile = renderTile(column, row, scale);
+                    tiles.put(key, tile);
+                    evict();
+                }
+                if (tile != EMPTY) {
+                    g.drawImage(tile, originX + column * TILE_SIZE, originY + row * TILE_SIZE, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every cached tile
+     */
+    void invalidate() {
+        tiles.clear();
+    }
+
+    private void evict() {
+        Iterator<BufferedImage> eldest = tiles.values().iterator();
+        while (tiles.size() > MAX_TILES && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Renders the edges and nodes falling in one tile
+     */
+    private BufferedImage renderTile(int column, int row, double scale) {
+        double minX = column * TILE_SIZE / scale;
+        double minY = row * TILE_SIZE / scale;
+        double maxX = (column + 1) * TILE_SIZE / scale;
+        double maxY = (row + 1) * TILE_SIZE / scale;
+        double padding = SHORT_EDGE + NODE_SIZE;
+        boolean offMap = maxX + padding < 0 || maxY + padding < 0
+                || minX - padding > projection.getWidth() || minY - padding > projection.getHeight();
+        int[] nodes = offMap ? new int[0] : map.getSpatialIndex().withinBox(
+                projection.yToLatitude(maxY + padding), projection.xToLongitude(minX - padding),
+                projection.yToLatitude(minY - padding), projection.xToLongitude(maxX + padding));
+
+        CsrGraph graph = map.getGraph();
+        double margin = EDGE_WIDTH / scale;
+        int crossing = 0;
+        int[] crossingEdges = new int[longEdges.length];
+        for (int i = 0; i < longEdges.length; i += 2) {
+            int x1 = projection.longitudeToX(graph.longitude(longEdges[i]));
+            int y1 = projection.latitudeToY(graph.latitude(longEdges[i]));
+            int x2 = projection.longitudeToX(graph.longitude(longEdges[i + 1]));
+            int y2 = projection.latitudeToY(graph.latitude(longEdges[i + 1]));
+            if (Math.max(x1, x2) + margin >= minX && Math.min(x1, x2) - margin <= maxX
+                    && Math.max(y1, y2) + margin >= minY && Math.min(y1, y2) - margin <= maxY) {
+                crossingEdges[crossing++] = longEdges[i];
+                crossingEdges[crossing++] = longEdges[i + 1];
+            }
+        }
+        if (nodes.length == 0 && crossing == 0) {
+            return EMPTY;
+        }
+
+        BufferedImage tile = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = tile.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.translate(-column * TILE_SIZE, -row * TILE_SIZE);
+        g.scale(scale, scale);
+
+        // Draw short edges once from their lower id end, then the long edges crossing the tile
+        g.setColor(Color.RED);
+        g.setStroke(new BasicStroke(EDGE_WIDTH));
+        for (int u : nodes) {
+            int x1 = projection.longitudeToX(graph.longitude(u));
+            int y1 = projection.latitudeToY(graph.latitude(u));
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                if (v <= u) {
+                    continue;
+                }
+                int x2 = projection.longitudeToX(graph.longitude(v));
+                int y2 = projection.latitudeToY(graph.latitude(v));
+                if (x1 >= 0 && y1 >= 0 && x2 >= 0 && y2 >= 0 && !isLong(x1, y1, x2, y2)) {
+                    g.drawLine(x1, y1, x2, y2);
+                }
+            }
+        }
+        for (int i = 0; i < crossing; i += 2) {
+            g.drawLine(projection.longitudeToX(graph.longitude(crossingEdges[i])),
+                    projection.latitudeToY(graph.latitude(crossingEdges[i])),
+                    projection.longitudeToX(graph.longitude(crossingEdges[i + 1])),
+                    projection.latitudeToY(graph.latitude(crossingEdges[i + 1])));
+        }
+
+        // Draw nodes
+        g.setColor(Color.BLUE);
+        for (int u : nodes) {
+            int x = projection.longitudeToX(graph.longitude(u));
+            int y = projection.latitudeToY(graph.latitude(u));
+            if (x >= 0 && y >= 0) {
+                g.fillOval(x - NODE_SIZE / 2, y - NODE_SIZE / 2, NODE_SIZE, NODE_SIZE);
+            }
+        }
+        g.dispose();
+        return tile;
+    }
+
+    private static boolean isLong(int x1, int y1, int x2, int y2) {
+        return Math.abs(x2 - x1) > SHORT_EDGE || Math.abs(y2 - y1) > SHORT_EDGE;
+    }
+
+    /**
+     * Collects the drawable edges too long for the padded node query, as end pairs
+     */
+    private int[] findLongEdges() {
+        CsrGraph graph = map.getGraph();
+        int[] edges = new int[16];
+        int size = 0;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            int x1 = projection.longitudeToX(graph.longitude(u));
+            int y1 = projection.latitudeToY(graph.latitude(u));
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                int x2 = projection.longitudeToX(graph.longitude(v));
+                int y2 = projection.latitudeToY(graph.latitude(v));
+                if (v > u && x1 >= 0 && y1 >= 0 && x2 >= 0 && y2 >= 0 && isLong(x1, y1, x2, y2)) {
+                    if (size == edges.length) {
+                        edges = Arrays.copyOf(edges, size * 2);
+                    }
+                    edges[size++] = u;
+                    edges[size++] = v;
+                }
+            }
+        }
+        return Arrays.copyOf(edges, size);
+    }
+}
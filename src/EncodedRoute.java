@@ -0,0 +1,179 @@
+package src;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact form of a route for storing and sending: the node ids in path
+ * order, the path's coordinates as an encoded polyline and its distance.
+ * The polyline uses the Google encoded polyline format at five decimal
+ * places (about a meter): each coordinate is the difference from the
+ * previous point as a zigzag varint in printable ASCII, so a campus route
+ * takes two to four characters per point instead of two JSON numbers.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class EncodedRoute {
+
+    /** Coordinates are rounded to multiples of 1 / PRECISION degrees */
+    public static final double PRECISION = 1e5;
+
+    // - Fields
+
+    private final int[] nodeIds;    // node ids from start to goal
+    private final String polyline;  // encoded coordinates of the nodes
+    private final double distance;  // length in meters
+
+    // - Constructor(s)
+
+    /**
+     * Creates a route from already encoded parts. The array is not copied.
+     *
+     * @param nodeIds node ids from start to goal
+     * @param polyline the nodes' coordinates as an encoded polyline
+     * @param distance length in meters
+     */
+    public EncodedRoute(int[] nodeIds, String polyline, double distance) {
+        this.nodeIds = nodeIds;
+        this.polyline = polyline;
+        this.distance = distance;
+    }
+
+    // - Methods
+
+    /**
+     * Encodes a path of nodes
+     *
+     * @param path nodes from start to goal
+     * @param nodeIds ids of the same nodes
+     * @param distance length in meters
+     * @return the route
+     */
+    static EncodedRoute of(List<Node> path, int[] nodeIds, double distance) {
+        double[] latitudes = new double[path.size()];
+        double[] longitudes = new double[path.size()];
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = path.get(i).getX();
+            longitudes[i] = path.get(i).getY();
+        }
+        return new EncodedRoute(nodeIds, encode(latitudes, longitudes), distance);
+    }
+
+    /**
+     * Encodes coordinate pairs as a polyline
+     *
+     * @param latitudes latitude of each point
+     * @param longitudes longitude of each point
+     * @return the encoded polyline
+     */
+    public static String encode(double[] latitudes, double[] longitudes) {
+        StringBuilder out = new StringBuilder(latitudes.length * 6);
+        long latitude = 0;
+        long longitude = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            long nextLatitude = Math.round(latitudes[i] * PRECISION);
+            long nextLongitude = Math.round(longitudes[i] * PRECISION);
+            appendValue(out, nextLatitude - latitude);
+            appendValue(out, nextLongitude - longitude);
+            latitude = nextLatitude;
+            longitude = nextLongitude;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Decodes a polyline
+     *
+     * @param polyline the encoded polyline
+     * @return latitude and longitude of each point, interleaved
+     * @throws IllegalArgumentException if the polyline is cut short or has
+     *         characters outside the encoding
+     */
+    public static double[] decode(String polyline) {
+        double[] points = new double[16];
+        int count = 0;
+        long latitude = 0;
+        long longitude = 0;
+        int[] position = new int[1];
+        while (position[0] < polyline.length()) {
+            latitude += readValue(polyline, position);
+            longitude += readValue(polyline, position);
+            if (count + 2 > points.length) {
+                points = Arrays.copyOf(points, points.length * 2);
+            }
+            points[count++] = latitude / PRECISION;
+            points[count++] = longitude / PRECISION;
+        }
+        return Arrays.copyOf(points, count);
+    }
+
+    /**
+     * Appends one signed value: zigzag encoded, then five bits per
+     * character from the lowest, with 0x20 set on all but the last, offset
+     * by 63 into printable ASCII
+     */
+    private static void appendValue(StringBuilder out, long value) {
+        long bits = value < 0 ? ~(value << 1) : value << 1;
+        while (bits >= 0x20) {
+            out.append((char) ((0x20 | (bits & 0x1F)) + 63));
+            bits >>>= 5;
+        }
+        out.append((char) (bits + 63));
+    }
+
+    private static long readValue(String polyline, int[] position) {
+        long bits = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= polyline.length() || shift > 60) {
+                throw new IllegalArgumentException("Polyline ends inside a value");
+            }
+            int chunk = polyline.charAt(position[0]++) - 63;
+            if (chunk < 0 || chunk > 0x3F) {
+                throw new IllegalArgumentException("Not a polyline character at " + (position[0] - 1));
+            }
+            bits |= (long) (chunk & 0x1F) << shift;
+            shift += 5;
+            if (chunk < 0x20) {
+                break;
+            }
+        }
+        return (bits & 1) != 0 ? ~(bits >>> 1) : bits >>> 1;
+    }
+
+    /**
+     * Gets the node ids from start to goal
+     *
+     * @return a copy of the node ids, empty if no route was found
+     */
+    public int[] getNodeIds() {
+        return nodeIds.clone();
+    }
+
+    public String getPolyline() {
+        return polyline;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Gets the number of nodes on the route
+     *
+     * @return node count
+     */
+    public int size() {
+        return nodeIds.length;
+    }
+
+    /**
+     * Gets the approximate heap size of the route
+     *
+     * @return bytes
+     */
+    public long byteSize() {
+        return 64 + 4L * nodeIds.length + polyline.length();
+    }
+}
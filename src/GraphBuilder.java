@@ -0,0 +1,224 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Growable primitive buffers that loaders fill with nodes and edges before
+ * the immutable CsrGraph is built. Nodes are deduplicated by coordinate, so
+ * a coordinate seen twice maps to the same node id.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class GraphBuilder {
+
+    // - Fields
+
+    private double[] latitudes;     // latitude of each node, by id
+    private double[] longitudes;    // longitude of each node, by id
+    private byte[] attributes;      // packed NodeAttributes of each node, by id
+    private int nodeCount;          // number of distinct nodes
+    private int[] table;            // open addressing table of node ids, -1 if empty
+    private int[] from;             // first endpoint of each edge
+    private int[] to;               // second endpoint of each edge
+    private double[] weights;       // weight of each edge
+    private int[] edgeAttributes;   // packed EdgeAttributes of each edge, null until one is given
+    private int edgeCount;          // number of edges
+    private int duplicateNodes;     // addNode calls that found an existing node
+    private int droppedEdges;       // edges the loader skipped, counted by skipEdge
+    private int invalidWeights;     // edges dropped for a negative or non-finite weight
+
+    // - Constructor(s)
+
+    /**
+     * Creates an empty builder
+     */
+    GraphBuilder() {
+        latitudes = new double[1024];
+        longitudes = new double[1024];
+        attributes = new byte[1024];
+        table = new int[2048];
+        Arrays.fill(table, -1);
+        from = new int[1024];
+        to = new int[1024];
+        weights = new double[1024];
+    }
+
+    // - Methods
+
+    /**
+     * Adds a node, or finds the existing node at the same coordinates
+     *
+     * @param latitude node latitude
+     * @param longitude node longitude
+     * @return node id
+     */
+    int addNode(double latitude, double longitude) {
+        return addNode(latitude, longitude, NodeAttributes.NONE);
+    }
+
+    /**
+     * Adds a node with attributes, or merges the attributes into the existing
+     * node at the same coordinates
+     *
+     * @param latitude node latitude
+     * @param longitude node longitude
+     * @param nodeAttributes packed NodeAttributes
+     * @return node id
+     */
+    int addNode(double latitude, double longitude, byte nodeAttributes) {
+        int slot = slot(latitude, longitude);
+        if (table[slot] >= 0) {
+            int existing = table[slot];
+            attributes[existing] = NodeAttributes.merge(attributes[existing], nodeAttributes);
+            duplicateNodes++;
+            return existing;
+        }
+        if (nodeCount == latitudes.length) {
+            latitudes = Arrays.copyOf(latitudes, nodeCount * 2);
+            longitudes = Arrays.copyOf(longitudes, nodeCount * 2);
+            attributes = Arrays.copyOf(attributes, nodeCount * 2);
+        }
+        int id = nodeCount++;
+        latitudes[id] = latitude;
+        longitudes[id] = longitude;
+        attributes[id] = nodeAttributes;
+        table[slot] = id;
+        if (nodeCount * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * Finds the node at the given coordinates
+     *
+     * @param latitude node latitude
+     * @param longitude node longitude
+     * @return node id, or -1 if there is none
+     */
+    int findNode(double latitude, double longitude) {
+        return table[slot(latitude, longitude)];
+    }
+
+    /**
+     * Adds an undirected edge between two existing nodes. Edges whose weight
+     * is negative, infinite or NaN are dropped and counted instead, since
+     * every search assumes finite weights of at least zero.
+     *
+     * @param a first node id
+     * @param b second node id
+     * @param weight edge weight
+     * @return false if the edge was dropped
+     */
+    boolean addEdge(int a, int b, double weight) {
+        if (!(weight >= 0) || weight == Double.POSITIVE_INFINITY) {
+            invalidWeights++;
+            return false;
+        }
+        if (edgeCount == from.length) {
+            from = Arrays.copyOf(from, edgeCount * 2);
+            to = Arrays.copyOf(to, edgeCount * 2);
+            weights = Arrays.copyOf(weights, edgeCount * 2);
+            if (edgeAttributes != null) {
+                edgeAttributes = Arrays.copyOf(edgeAttributes, edgeCount * 2);
+            }
+        }
+        from[edgeCount] = a;
+        to[edgeCount] = b;
+        weights[edgeCount] = weight;
+        edgeCount++;
+        return true;
+    }
+
+    /**
+     * Adds an undirected edge with attributes between two existing nodes
+     *
+     * @param a first node id
+     * @param b second node id
+     * @param weight edge weight
+     * @param attributes packed EdgeAttributes
+     */
+    void addEdge(int a, int b, double weight, int attributes) {
+        if (!addEdge(a, b, weight)) {
+            return;
+        }
+        if (edgeAttributes == null) {
+            edgeAttributes = new int[from.length];
+        }
+        edgeAttributes[edgeCount - 1] = attributes;
+    }
+
+    /**
+     * Records an edge the loader could not add, such as one whose endpoint
+     * is not a node
+     */
+    void skipEdge() {
+        droppedEdges++;
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    int edgeCount() {
+        return edgeCount;
+    }
+
+    int duplicateNodes() {
+        return duplicateNodes;
+    }
+
+    int droppedEdges() {
+        return droppedEdges;
+    }
+
+    int invalidWeights() {
+        return invalidWeights;
+    }
+
+    /**
+     * Builds the immutable adjacency index from the buffered nodes and edges
+     *
+     * @return the graph
+     */
+    CsrGraph build() {
+        return CsrGraph.build(Arrays.copyOf(latitudes, nodeCount), Arrays.copyOf(longitudes, nodeCount),
+                Arrays.copyOf(attributes, nodeCount), from, to, weights, edgeAttributes, edgeCount);
+    }
+
+    /**
+     * Finds the table slot holding the given coordinates, or the empty slot
+     * where they would be inserted
+     */
+    private int slot(double latitude, double longitude) {
+        int mask = table.length - 1;
+        int slot = hash(latitude, longitude) & mask;
+        while (true) {
+            int id = table[slot];
+            if (id < 0 || (latitudes[id] == latitude && longitudes[id] == longitude)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+        for (int id = 0; id < nodeCount; id++) {
+            int slot = hash(latitudes[id], longitudes[id]) & mask;
+            while (table[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id;
+        }
+    }
+
+    private static int hash(double latitude, double longitude) {
+        long h = Double.doubleToLongBits(latitude) * 0x9E3779B97F4A7C15L
+                ^ Double.doubleToLongBits(longitude) * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 29));
+    }
+}
@@ -0,0 +1,274 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Versioned binary snapshot of a CsrGraph. The file is a fixed header
+ * followed by the node coordinate arrays and the CSR adjacency arrays, all
+ * little-endian and 8-byte aligned:
+ *
+ * <pre>
+ *   long   magic       "CMAPSNAP"
+ *   int    version
+ *   int    nodeCount
+ *   int    arcCount
+ *   int    reserved
+ *   double latitudes[nodeCount]
+ *   double longitudes[nodeCount]
+ *   int    offsets[nodeCount + 1]   (padded to 8 bytes)
+ *   int    targets[arcCount]        (padded to 8 bytes)
+ *   double weights[arcCount]
+ *   byte   attributes[nodeCount]   (padded to 8 bytes, since version 2)
+ *   int    arcAttributes[arcCount] (padded to 8 bytes, since version 3)
+ * </pre>
+ *
+ * Older files are still read: version 1 nodes get no attributes and arcs
+ * of versions 1 and 2 get none either. A graph without arc attributes is
+ * written with an all-zero section.
+ *
+ * Snapshots are opened with FileChannel.map, so reading one is a handful of
+ * bulk copies out of the page cache instead of a parse.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class GraphSnapshot {
+
+    /** First eight bytes of every snapshot, "CMAPSNAP" in ASCII */
+    static final long MAGIC = 0x50414E53504D4143L;
+    /** Current format version */
+    static final int VERSION = 3;
+
+    private static final int HEADER_BYTES = 24;
+
+    private GraphSnapshot() {
+    }
+
+    // - Methods
+
+    /**
+     * Checks whether a file starts with the snapshot magic number
+     *
+     * @param file the file to check
+     * @return true if the file looks like a snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until eight bytes or end of file
+            }
+            return !magic.hasRemaining() && magic.getLong(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes a graph to a snapshot file, replacing any existing file
+     *
+     * @param graph the graph to write
+     * @param file destination file
+     * @throws IOException if writing fails
+     */
+    public static void write(CsrGraph graph, Path file) throws IOException {
+        int nodeCount = graph.nodeCount();
+        int arcCount = graph.arcCount();
+        long size = layoutSize(nodeCount, arcCount, VERSION);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Graph too large for a snapshot: " + size + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(MAGIC).putInt(VERSION).putInt(nodeCount).putInt(arcCount).putInt(0);
+        for (int i = 0; i < nodeCount; i++) {
+            buffer.putDouble(graph.latitude(i));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            buffer.putDouble(graph.longitude(i));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            buffer.putInt(graph.firstArc(i));
+        }
+        buffer.putInt(arcCount);
+        align(buffer);
+        for (int a = 0; a < arcCount; a++) {
+            buffer.putInt(graph.target(a));
+        }
+        align(buffer);
+        for (int a = 0; a < arcCount; a++) {
+            buffer.putDouble(graph.weight(a));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            buffer.put(graph.attributes(i));
+        }
+        align(buffer);
+        for (int a = 0; a < arcCount; a++) {
+            buffer.putInt(graph.arcAttributes(a));
+        }
+        align(buffer);
+        buffer.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Opens a snapshot file by memory-mapping it
+     *
+     * @param file the snapshot file
+     * @return the graph
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static CsrGraph read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getLong() != MAGIC) {
+                throw new IOException("Not a graph snapshot: " + file);
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + file);
+            }
+            int nodeCount = buffer.getInt();
+            int arcCount = buffer.getInt();
+            buffer.getInt();
+            if (nodeCount < 0 || arcCount < 0 || layoutSize(nodeCount, arcCount, version) != size) {
+                throw new IOException("Corrupt graph snapshot: " + file);
+            }
+
+            double[] latitudes = new double[nodeCount];
+            double[] longitudes = new double[nodeCount];
+            int[] offsets = new int[nodeCount + 1];
+            int[] targets = new int[arcCount];
+            double[] weights = new double[arcCount];
+            byte[] attributes = new byte[nodeCount];
+
+            int position = HEADER_BYTES;
+            buffer.position(position).asDoubleBuffer().get(latitudes);
+            position += nodeCount * 8;
+            buffer.position(position).asDoubleBuffer().get(longitudes);
+            position += nodeCount * 8;
+            buffer.position(position).asIntBuffer().get(offsets);
+            position += padded((nodeCount + 1) * 4);
+            buffer.position(position).asIntBuffer().get(targets);
+            position += padded(arcCount * 4);
+            buffer.position(position).asDoubleBuffer().get(weights);
+            position += arcCount * 8;
+            if (version >= 2) {
+                buffer.position(position);
+                buffer.get(attributes);
+                position += padded(nodeCount);
+            }
+            int[] arcAttributes = null;
+            if (version >= 3) {
+                arcAttributes = new int[arcCount];
+                buffer.position(position).asIntBuffer().get(arcAttributes);
+                if (isZero(arcAttributes)) {
+                    arcAttributes = null;
+                }
+            }
+
+            validate(offsets, targets, weights, nodeCount, arcCount, file);
+            return new CsrGraph(latitudes, longitudes, attributes, offsets, targets, weights, arcAttributes);
+        }
+    }
+
+    /**
+     * Converts a JSON graph or CSV path export into a snapshot.
+     * Usage: GraphSnapshot input.json|input.csv output.snapshot
+     *
+     * @param args input and output paths
+     * @throws Exception if loading or writing fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: GraphSnapshot <input.json|input.csv> <output.snapshot>");
+            System.exit(2);
+        }
+        CampusMap map = new CampusMap();
+        map.load(Paths.get(args[0]));
+        write(map.getGraph(), Paths.get(args[1]));
+        System.out.println("Wrote " + map.getNodeCount() + " nodes and " + map.getEdges().size()
+                + " edges to " + args[1]);
+    }
+
+    private static long layoutSize(long nodeCount, long arcCount, int version) {
+        long size = HEADER_BYTES + nodeCount * 16 + padded((nodeCount + 1) * 4) + padded(arcCount * 4)
+                + arcCount * 8;
+        if (version >= 2) {
+            size += padded(nodeCount);
+        }
+        return version >= 3 ? size + padded(arcCount * 4) : size;
+    }
+
+    private static long padded(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static int padded(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private static boolean isZero(int[] values) {
+        for (int value : values) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void align(ByteBuffer buffer) {
+        while ((buffer.position() & 7) != 0) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Rejects snapshots whose CSR arrays would index out of bounds
+     */
+    private static void validate(int[] offsets, int[] targets, double[] weights, int nodeCount, int arcCount,
+            Path file) throws IOException {
+        if (offsets[0] != 0 || offsets[nodeCount] != arcCount) {
+            throw new IOException("Corrupt graph snapshot: " + file);
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            if (offsets[i] > offsets[i + 1]) {
+                throw new IOException("Corrupt graph snapshot: " + file);
+            }
+        }
+        for (int target : targets) {
+            if (target < 0 || target >= nodeCount) {
+                throw new IOException("Corrupt graph snapshot: " + file);
+            }
+        }
+        // Closed edges are saved as infinite, but loaders never let a negative weight through
+        for (double weight : weights) {
+            if (!(weight >= 0)) {
+                throw new IOException("Corrupt graph snapshot: " + file);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package src;
+
+/**
+ * What loading found wrong or unusual in a map: node entries that repeated
+ * coordinates already seen, edges dropped because an endpoint was missing,
+ * self loops, parallel edges, edges dropped for a weight that is negative
+ * or not a finite number, weights raised to the straight-line bound, and
+ * how the graph falls apart into connected components.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class GraphValidation {
+
+    // - Fields
+
+    private final int nodes;
+    private final int edges;
+    private final int duplicateNodes;   // node entries merged into an earlier node
+    private final int droppedEdges;     // edges whose endpoints were not nodes
+    private final int selfLoops;
+    private final int parallelEdges;    // edges repeating an earlier edge's endpoints
+    private final int invalidWeights;   // edges dropped for a negative or non-finite weight
+    private final int raisedWeights;    // edges shorter than the straight-line bound, raised to it
+    private final int components;
+    private final int largestComponent; // node count of the largest component
+    private final int isolatedNodes;    // nodes without any edge
+
+    // - Constructor(s)
+
+    private GraphValidation(int nodes, int edges, int duplicateNodes, int droppedEdges, int selfLoops,
+            int parallelEdges, int invalidWeights, int raisedWeights, int components, int largestComponent,
+            int isolatedNodes) {
+        this.nodes = nodes;
+        this.edges = edges;
+        this.duplicateNodes = duplicateNodes;
+        this.droppedEdges = droppedEdges;
+        this.selfLoops = selfLoops;
+        this.parallelEdges = parallelEdges;
+        this.invalidWeights = invalidWeights;
+        this.raisedWeights = raisedWeights;
+        this.components = components;
+        this.largestComponent = largestComponent;
+        this.isolatedNodes = isolatedNodes;
+    }
+
+    // - Methods
+
+    /**
+     * Checks a freshly built graph
+     *
+     * @param graph the graph as loaded
+     * @param labels its connected components
+     * @param duplicateNodes node entries the loader merged
+     * @param droppedEdges edges the loader dropped for a missing endpoint
+     * @param invalidWeights edges the loader dropped for their weight
+     * @param raisedWeights edges whose weight was raised to the straight-line bound
+     * @return the report
+     */
+    static GraphValidation check(CsrGraph graph, ComponentLabels labels, int duplicateNodes, int droppedEdges,
+            int invalidWeights, int raisedWeights) {
+        int nodeCount = graph.nodeCount();
+        int loopArcs = 0;
+        int parallelEdges = 0;
+        int isolatedNodes = 0;
+        int[] seenFrom = new int[nodeCount];    // last node an arc to each node was seen from, plus one
+        for (int u = 0; u < nodeCount; u++) {
+            if (graph.firstArc(u) == graph.endArc(u)) {
+                isolatedNodes++;
+            }
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                // Count each edge from its lower end; a self loop has both its arcs there
+                if (v == u) {
+                    loopArcs++;
+                } else if (v > u) {
+                    if (seenFrom[v] == u + 1) {
+                        parallelEdges++;
+                    }
+                    seenFrom[v] = u + 1;
+                }
+            }
+        }
+        int selfLoops = loopArcs / 2;
+        return new GraphValidation(nodeCount, graph.arcCount() / 2, duplicateNodes, droppedEdges, selfLoops,
+                parallelEdges, invalidWeights, raisedWeights, labels.componentCount(), labels.largestSize(),
+                isolatedNodes);
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    public int getEdges() {
+        return edges;
+    }
+
+    public int getDuplicateNodes() {
+        return duplicateNodes;
+    }
+
+    public int getDroppedEdges() {
+        return droppedEdges;
+    }
+
+    public int getSelfLoops() {
+        return selfLoops;
+    }
+
+    public int getParallelEdges() {
+        return parallelEdges;
+    }
+
+    public int getInvalidWeights() {
+        return invalidWeights;
+    }
+
+    /**
+     * Gets the number of edges loaded shorter than GEOMETRIC_SCALE times the
+     * great-circle distance between their nodes, whose weight was raised to
+     * that so the A* bounds stay admissible
+     *
+     * @return raised edge count
+     */
+    public int getRaisedWeights() {
+        return raisedWeights;
+    }
+
+    /**
+     * Gets the number of connected components, counting isolated nodes
+     *
+     * @return component count
+     */
+    public int getComponents() {
+        return components;
+    }
+
+    public int getLargestComponent() {
+        return largestComponent;
+    }
+
+    public int getIsolatedNodes() {
+        return isolatedNodes;
+    }
+
+    /**
+     * Checks whether every node can reach every other and nothing was
+     * dropped, merged, raised or invalid
+     *
+     * @return true for a clean graph
+     */
+    public boolean isClean() {
+        return duplicateNodes == 0 && droppedEdges == 0 && selfLoops == 0 && parallelEdges == 0
+                && invalidWeights == 0 && raisedWeights == 0 && components <= 1;
+    }
+
+    @Override
+    public String toString() {
+        return nodes + " nodes, " + edges + " edges, " + components + " components (largest " + largestComponent
+                + " nodes, " + isolatedNodes + " isolated nodes); " + duplicateNodes + " duplicate nodes, "
+                + droppedEdges + " dropped edges, " + selfLoops + " self loops, " + parallelEdges
+                + " parallel edges, " + invalidWeights + " invalid weights, " + raisedWeights + " raised weights";
+    }
+}
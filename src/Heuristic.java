@@ -0,0 +1,158 @@
+package src;
+
+/**
+ * Admissible lower bound in meters on the remaining distance from any node
+ * to one fixed target, built once per query. Edge weights in the campus
+ * data are never shorter than 0.998 of the great-circle length of the
+ * edge, so the geometric bounds are scaled by GEOMETRIC_SCALE to absorb
+ * that rounding as well as the equirectangular approximation. Other maps
+ * are held to the same bound: loading raises shorter weights to
+ * shortestEdge and weight updates below it are rejected.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class Heuristic {
+
+    /** Safety factor applied to the geometric bounds */
+    static final double GEOMETRIC_SCALE = 0.99;
+
+    /** Landmarks consulted per query, chosen for the start/goal pair */
+    static final int ACTIVE_LANDMARKS = 4;
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * SpatialIndex.EARTH_RADIUS;
+
+    // - Fields
+
+    private final CsrGraph graph;
+    private final SearchOptions.HeuristicType type;
+    private final Landmarks landmarks;      // null unless type is ALT
+    private final int target;
+    private final double targetLatitude;
+    private final double targetLongitude;
+    private final double targetCosLatitude; // for the haversine formula
+    private final double metersPerDegreeLon; // lower bound anywhere in the graph
+    private final int[] active;             // landmark indices used by this query
+    private final int activeCount;
+
+    // - Constructor(s)
+
+    /**
+     * Creates the bound towards a target
+     *
+     * @param state the map version searched
+     * @param type which bound to compute
+     * @param target node the bound measures towards
+     * @param source other end of the query, used to pick landmarks
+     */
+    Heuristic(MapState state, SearchOptions.HeuristicType type, int target, int source) {
+        this.graph = state.graph();
+        this.type = type;
+        this.target = target;
+        this.targetLatitude = graph.latitude(target);
+        this.targetLongitude = graph.longitude(target);
+        this.targetCosLatitude = Math.cos(Math.toRadians(targetLatitude));
+        this.metersPerDegreeLon = METERS_PER_DEGREE * Math.cos(Math.toRadians(graph.maxAbsLatitude()));
+
+        Landmarks tables = type == SearchOptions.HeuristicType.ALT ? state.landmarks() : null;
+        if (tables != null && tables.count() > 0) {
+            this.landmarks = tables;
+            this.active = new int[Math.min(ACTIVE_LANDMARKS, tables.count())];
+            this.activeCount = tables.selectActive(source, target, active);
+        } else {
+            this.landmarks = null;
+            this.active = null;
+            this.activeCount = 0;
+        }
+    }
+
+    // - Methods
+
+    /**
+     * Estimates the distance from a node to the target
+     *
+     * @param node node id
+     * @return lower bound in meters, positive infinity if the landmarks
+     *         prove the target unreachable
+     */
+    double estimate(int node) {
+        if (type == SearchOptions.HeuristicType.HAVERSINE) {
+            return haversine(node);
+        }
+        double bound = equirectangular(node);
+        for (int i = 0; i < activeCount; i++) {
+            bound = Math.max(bound, landmarks.bound(active[i], node, target));
+        }
+        return bound;
+    }
+
+    /**
+     * Lower bound on the distance between any two nodes, from the great
+     * circle and every landmark, for one-off checks that do not justify
+     * building a Heuristic
+     *
+     * @param state the map version the bound must hold for
+     * @param from node id
+     * @param to node id
+     * @return lower bound in meters, positive infinity if the landmarks
+     *         prove the nodes disconnected
+     */
+    static double lowerBound(MapState state, int from, int to) {
+        CsrGraph graph = state.graph();
+        double bound = haversine(graph.latitude(from), graph.longitude(from), graph.latitude(to),
+                graph.longitude(to)) * GEOMETRIC_SCALE;
+        Landmarks tables = state.landmarks();
+        for (int i = 0; i < tables.count(); i++) {
+            bound = Math.max(bound, tables.bound(i, from, to));
+        }
+        return bound;
+    }
+
+    /**
+     * Shortest weight an edge between two nodes may have for the geometric
+     * bounds to stay admissible: GEOMETRIC_SCALE times their great-circle
+     * distance, computed the same way whichever end is given first
+     *
+     * @param graph graph the nodes belong to
+     * @param a one node id
+     * @param b other node id
+     * @return shortest admissible weight in meters
+     */
+    static double shortestEdge(CsrGraph graph, int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return GEOMETRIC_SCALE * haversine(graph.latitude(low), graph.longitude(low), graph.latitude(high),
+                graph.longitude(high));
+    }
+
+    private double equirectangular(int node) {
+        double dy = (graph.latitude(node) - targetLatitude) * METERS_PER_DEGREE;
+        double dx = (graph.longitude(node) - targetLongitude) * metersPerDegreeLon;
+        return Math.sqrt(dx * dx + dy * dy) * GEOMETRIC_SCALE;
+    }
+
+    private double haversine(int node) {
+        double latitude = Math.toRadians(graph.latitude(node));
+        double sinLat = Math.sin((latitude - Math.toRadians(targetLatitude)) * 0.5);
+        double sinLon = Math.sin(Math.toRadians(graph.longitude(node) - targetLongitude) * 0.5);
+        double a = sinLat * sinLat + Math.cos(latitude) * targetCosLatitude * sinLon * sinLon;
+        return 2 * SpatialIndex.EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a))) * GEOMETRIC_SCALE;
+    }
+
+    /**
+     * Great-circle distance in meters between two points
+     *
+     * @param fromLatitude first latitude
+     * @param fromLongitude first longitude
+     * @param toLatitude second latitude
+     * @param toLongitude second longitude
+     * @return distance in meters
+     */
+    static double haversine(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double sinLat = Math.sin(Math.toRadians(toLatitude - fromLatitude) * 0.5);
+        double sinLon = Math.sin(Math.toRadians(toLongitude - fromLongitude) * 0.5);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude)) * sinLon * sinLon;
+        return 2 * SpatialIndex.EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,77 @@
+package src;
+
+/**
+ * Kind of way an edge belongs to, from the OpenStreetMap highway tag. The
+ * ordinal is stored in the low bits of an edge's packed attributes, so
+ * constants may only be appended and there can be at most 32 of them.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public enum Highway {
+    /** No highway given */
+    UNKNOWN(null),
+    FOOTWAY("footway"),
+    PATH("path"),
+    STEPS("steps"),
+    PEDESTRIAN("pedestrian"),
+    CYCLEWAY("cycleway"),
+    CORRIDOR("corridor"),
+    TRACK("track"),
+    SERVICE("service"),
+    LIVING_STREET("living_street"),
+    RESIDENTIAL("residential"),
+    /** A highway tag not listed here */
+    OTHER(null);
+
+    private static final Highway[] VALUES = values();
+
+    // - Fields
+
+    private final String tag;       // OpenStreetMap highway value
+
+    // - Constructor(s)
+
+    Highway(String tag) {
+        this.tag = tag;
+    }
+
+    // - Methods
+
+    /**
+     * Gets the OpenStreetMap highway value
+     *
+     * @return tag value, or null for UNKNOWN and OTHER
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Finds the highway for an OpenStreetMap highway value
+     *
+     * @param tag tag value, may be null
+     * @return the highway, UNKNOWN for null and OTHER for unlisted values
+     */
+    public static Highway fromTag(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return UNKNOWN;
+        }
+        for (Highway highway : VALUES) {
+            if (tag.equals(highway.tag)) {
+                return highway;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Gets the highway with the given ordinal
+     *
+     * @param ordinal highway ordinal
+     * @return the highway, OTHER if the ordinal is out of range
+     */
+    static Highway of(int ordinal) {
+        return ordinal < VALUES.length ? VALUES[ordinal] : OTHER;
+    }
+}
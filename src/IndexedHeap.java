@@ -0,0 +1,178 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap of node ids with O(log n) decrease-key and O(1)
+ * membership. Each node's slot in the heap is tracked in a position array
+ * indexed by node id.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class IndexedHeap implements OpenList {
+
+    // - Fields
+
+    private final int arity;    // children per heap slot
+    private int[] nodes;        // node id in each heap slot
+    private double[] keys;      // key in each heap slot
+    private int[] position;     // heap slot of each node id, -1 if absent
+    private int size;           // number of queued nodes
+
+    // - Constructor(s)
+
+    /**
+     * Creates an empty heap with the given number of children per slot
+     *
+     * @param arity children per slot, at least 2
+     */
+    IndexedHeap(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.nodes = new int[0];
+        this.keys = new double[0];
+        this.position = new int[0];
+        this.size = 0;
+    }
+
+    // - Methods
+
+    @Override
+    public void reset(int nodeCount) {
+        if (position.length < nodeCount) {
+            nodes = new int[nodeCount];
+            keys = new double[nodeCount];
+            position = new int[nodeCount];
+            Arrays.fill(position, -1);
+        } else {
+            for (int i = 0; i < size; i++) {
+                position[nodes[i]] = -1;
+            }
+        }
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of queued nodes
+     *
+     * @return size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a node is queued
+     *
+     * @param node node id
+     * @return true if queued
+     */
+    boolean contains(int node) {
+        return position[node] >= 0;
+    }
+
+    @Override
+    public double peekKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    @Override
+    public void push(int node, double key) {
+        int slot = position[node];
+        if (slot < 0) {
+            slot = size++;
+        } else if (key >= keys[slot]) {
+            return;
+        }
+        siftUp(slot, node, key);
+    }
+
+    @Override
+    public int poll() {
+        int top = nodes[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(0, nodes[size], keys[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Removes a node from the heap if it is queued
+     *
+     * @param node node id
+     */
+    void remove(int node) {
+        int slot = position[node];
+        if (slot < 0) {
+            return;
+        }
+        position[node] = -1;
+        size--;
+        if (slot == size) {
+            return;
+        }
+        int lastNode = nodes[size];
+        double lastKey = keys[size];
+        if (slot > 0 && lastKey < keys[(slot - 1) / arity]) {
+            siftUp(slot, lastNode, lastKey);
+        } else {
+            siftDown(slot, lastNode, lastKey);
+        }
+    }
+
+    /**
+     * Moves an entry towards the root until its parent is not larger
+     */
+    private void siftUp(int slot, int node, double key) {
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(slot, nodes[parent], keys[parent]);
+            slot = parent;
+        }
+        place(slot, node, key);
+    }
+
+    /**
+     * Moves an entry towards the leaves until no child is smaller
+     */
+    private void siftDown(int slot, int node, double key) {
+        while (true) {
+            int first = slot * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < keys[best]) {
+                    best = c;
+                }
+            }
+            if (keys[best] >= key) {
+                break;
+            }
+            place(slot, nodes[best], keys[best]);
+            slot = best;
+        }
+        place(slot, node, key);
+    }
+
+    private void place(int slot, int node, double key) {
+        nodes[slot] = node;
+        keys[slot] = key;
+        position[node] = slot;
+    }
+}
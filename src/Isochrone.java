@@ -0,0 +1,243 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Every node reachable from an origin within a distance budget, split into
+ * contour bands, for example everything within 5, 10 and 15 minutes' walk.
+ * One Dijkstra search grows from the origin and stops at the largest band
+ * limit. Nodes are settled in order of distance, so each band is a prefix
+ * of the reached nodes and all bands come from the same pass. Results are
+ * kept in primitive arrays in settle order.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class Isochrone {
+
+    /** Average walking speed used to turn minutes into meters */
+    public static final double WALKING_METERS_PER_MINUTE = 80;
+
+    // - Fields
+
+    private final CsrGraph graph;       // graph the search ran on
+    private final int origin;
+    private final double[] limits;      // upper distance of each band, ascending
+    private final int[] nodes;          // reached node ids, nearest first
+    private final double[] distances;   // distance of each reached node, same order
+    private final int[] bandEnds;       // number of reached nodes within each band's limit
+
+    // - Constructor(s)
+
+    private Isochrone(CsrGraph graph, int origin, double[] limits, int[] nodes, double[] distances,
+            int[] bandEnds) {
+        this.graph = graph;
+        this.origin = origin;
+        this.limits = limits;
+        this.nodes = nodes;
+        this.distances = distances;
+        this.bandEnds = bandEnds;
+    }
+
+    // - Methods
+
+    /**
+     * Finds the nodes within walking minutes of an origin for the FASTEST
+     * profile
+     *
+     * @param map the map
+     * @param origin node to walk from
+     * @param minutes upper limit of each band in minutes, ascending
+     * @return the isochrone
+     */
+    public static Isochrone walking(CampusMap map, Node origin, double... minutes) {
+        double[] limits = new double[minutes.length];
+        for (int i = 0; i < limits.length; i++) {
+            limits[i] = minutes[i] * WALKING_METERS_PER_MINUTE;
+        }
+        return compute(map, origin.getId(), RoutingProfile.FASTEST, limits);
+    }
+
+    /**
+     * Finds the nodes within distances of an origin. A search running on an
+     * interrupted thread stops early with a CancellationException.
+     *
+     * @param map the map
+     * @param origin node id to search from
+     * @param profile routing profile whose weights are used
+     * @param limits upper distance of each band in meters, ascending
+     * @return the isochrone
+     * @throws IllegalArgumentException if there is no band, the limits are
+     *         not ascending or the origin is not in the map
+     */
+    public static Isochrone compute(CampusMap map, int origin, RoutingProfile profile, double... limits) {
+        if (limits.length == 0) {
+            throw new IllegalArgumentException("At least one band limit is required");
+        }
+        for (int b = 0; b < limits.length; b++) {
+            if (!(limits[b] >= 0) || (b > 0 && limits[b] < limits[b - 1])) {
+                throw new IllegalArgumentException("Band limits must be ascending and not negative");
+            }
+        }
+        CsrGraph graph = map.state().graph(profile);
+        int nodeCount = graph.nodeCount();
+        if (origin < 0 || origin >= nodeCount) {
+            throw new IllegalArgumentException("Node id " + origin + " is not in the map");
+        }
+        double budget = limits[limits.length - 1];
+
+        SearchWorkspace workspace = Pathfinder.workspace();
+        workspace.begin(nodeCount);
+        OpenList open = workspace.openList(SearchOptions.OpenListType.QUATERNARY_HEAP, nodeCount);
+        workspace.update(origin, 0, -1);
+        open.push(origin, 0);
+
+        int[] nodes = new int[64];
+        double[] distances = new double[64];
+        int reached = 0;
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            if (workspace.isClosed(current)) {
+                continue;
+            }
+            double currentCost = workspace.cost(current);
+            if (currentCost > budget) {
+                break;
+            }
+            workspace.close(current);
+            if (reached == nodes.length) {
+                nodes = Arrays.copyOf(nodes, reached * 2);
+                distances = Arrays.copyOf(distances, reached * 2);
+            }
+            nodes[reached] = current;
+            distances[reached] = currentCost;
+            reached++;
+            Pathfinder.checkCancelled(reached);
+
+            for (int arc = graph.firstArc(current), end = graph.endArc(current); arc < end; arc++) {
+                int neighbor = graph.target(arc);
+                double tentativeCost = currentCost + graph.weight(arc);
+                if (tentativeCost <= budget && tentativeCost < workspace.cost(neighbor)) {
+                    workspace.update(neighbor, tentativeCost, current);
+                    open.push(neighbor, tentativeCost);
+                }
+            }
+        }
+
+        // Distances ascend, so each band ends where the next limit is passed
+        int[] bandEnds = new int[limits.length];
+        int end = 0;
+        for (int b = 0; b < limits.length; b++) {
+            while (end < reached && distances[end] <= limits[b]) {
+                end++;
+            }
+            bandEnds[b] = end;
+        }
+        return new Isochrone(graph, origin, limits.clone(), Arrays.copyOf(nodes, reached),
+                Arrays.copyOf(distances, reached), bandEnds);
+    }
+
+    /**
+     * Gets the node the search started from
+     *
+     * @return origin node id
+     */
+    public int origin() {
+        return origin;
+    }
+
+    /**
+     * Gets the number of nodes within the largest band limit
+     *
+     * @return reached node count
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Gets a reached node; nodes are ordered by distance, nearest first
+     *
+     * @param index index below size()
+     * @return node id
+     */
+    public int node(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Gets the distance of a reached node
+     *
+     * @param index index below size()
+     * @return distance in meters
+     */
+    public double distance(int index) {
+        return distances[index];
+    }
+
+    public int bandCount() {
+        return limits.length;
+    }
+
+    /**
+     * Gets the upper distance of a band
+     *
+     * @param band band index, 0 for the nearest
+     * @return limit in meters
+     */
+    public double bandLimit(int band) {
+        return limits[band];
+    }
+
+    /**
+     * Gets the number of reached nodes within a band's limit; the nodes of
+     * band b are those at indices bandEnd(b - 1) up to bandEnd(b)
+     *
+     * @param band band index, 0 for the nearest
+     * @return index one past the band's last node
+     */
+    public int bandEnd(int band) {
+        return bandEnds[band];
+    }
+
+    /**
+     * Gets the band a distance falls in
+     *
+     * @param distance distance in meters
+     * @return band index, or bandCount() if beyond every limit
+     */
+    public int bandOf(double distance) {
+        int band = 0;
+        while (band < limits.length && distance > limits[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    /**
+     * Gets the reached node ids, nearest first. The array is the isochrone's
+     * own storage and is not copied.
+     *
+     * @return node ids
+     */
+    public int[] getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the distances of the reached nodes, in the order of getNodes. The
+     * array is the isochrone's own storage and is not copied.
+     *
+     * @return distances in meters
+     */
+    public double[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * Gets the graph the search ran on, whose ids the nodes refer to
+     */
+    CsrGraph graph() {
+        return graph;
+    }
+}
@@ -0,0 +1,131 @@
+package src;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Overlay of an Isochrone on the map view: the reached part of every edge,
+ * colored by contour band. The outline of each band is built once, off the
+ * event dispatch thread, into a Path2D in map pixels; a repaint only strokes
+ * those paths and never touches the edge tiles underneath. An edge between
+ * two reached nodes takes the band of its farther end; an edge leaving the
+ * reached area is drawn as far along as the budget goes.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class IsochroneLayer {
+
+    private static final Color[] BAND_COLORS = {
+        new Color(0, 170, 60, 170),
+        new Color(240, 190, 0, 170),
+        new Color(235, 100, 0, 170),
+        new Color(200, 30, 30, 170),
+    };
+    private static final float BAND_WIDTH = 8.0f;    // map pixels
+
+    // - Fields
+
+    private final Isochrone isochrone;
+    private final Path2D.Float[] bands;     // reached edge pieces of each band, map pixels
+
+    // - Constructor(s)
+
+    private IsochroneLayer(Isochrone isochrone, Path2D.Float[] bands) {
+        this.isochrone = isochrone;
+        this.bands = bands;
+    }
+
+    // - Methods
+
+    /**
+     * Traces the reached edges of an isochrone; may run on any thread
+     *
+     * @param isochrone the isochrone
+     * @param projection projection of the map view
+     * @return the layer
+     */
+    static IsochroneLayer build(Isochrone isochrone, MapProjection projection) {
+        CsrGraph graph = isochrone.graph();
+        double[] reached = new double[graph.nodeCount()];
+        Arrays.fill(reached, Double.NaN);
+        for (int i = 0; i < isochrone.size(); i++) {
+            reached[isochrone.node(i)] = isochrone.distance(i);
+        }
+
+        Path2D.Float[] bands = new Path2D.Float[isochrone.bandCount()];
+        for (int b = 0; b < bands.length; b++) {
+            bands[b] = new Path2D.Float();
+        }
+        for (int i = 0; i < isochrone.size(); i++) {
+            int u = isochrone.node(i);
+            double distance = isochrone.distance(i);
+            float x1 = projection.longitudeToX(graph.longitude(u));
+            float y1 = projection.latitudeToY(graph.latitude(u));
+            if (x1 < 0 || y1 < 0) {
+                continue;   // off the map image
+            }
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                double weight = graph.weight(arc);
+                if (weight == Double.POSITIVE_INFINITY || (!Double.isNaN(reached[v]) && v < u)) {
+                    continue;
+                }
+                float x2 = projection.longitudeToX(graph.longitude(v));
+                float y2 = projection.latitudeToY(graph.latitude(v));
+                if (x2 < 0 || y2 < 0) {
+                    continue;
+                }
+                if (!Double.isNaN(reached[v])) {
+                    Path2D.Float band = bands[isochrone.bandOf(Math.max(distance, reached[v]))];
+                    band.moveTo(x1, y1);
+                    band.lineTo(x2, y2);
+                    continue;
+                }
+                // Split the reachable stretch of the edge at each band limit
+                double start = 0;
+                for (int b = isochrone.bandOf(distance); b < bands.length && start < weight; b++) {
+                    double stop = Math.min(weight, isochrone.bandLimit(b) - distance);
+                    if (stop > start) {
+                        float from = (float) (start / weight);
+                        float to = (float) (stop / weight);
+                        bands[b].moveTo(x1 + (x2 - x1) * from, y1 + (y2 - y1) * from);
+                        bands[b].lineTo(x1 + (x2 - x1) * to, y1 + (y2 - y1) * to);
+                        start = stop;
+                    }
+                }
+            }
+        }
+        return new IsochroneLayer(isochrone, bands);
+    }
+
+    Isochrone isochrone() {
+        return isochrone;
+    }
+
+    /**
+     * Strokes the bands, farthest first so nearer bands stay on top
+     *
+     * @param g graphics with the map transform applied
+     */
+    void paint(Graphics2D g) {
+        g.setStroke(new BasicStroke(BAND_WIDTH, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        for (int b = bands.length - 1; b >= 0; b--) {
+            g.setColor(color(b));
+            g.draw(bands[b]);
+        }
+    }
+
+    /**
+     * Gets the color a band is drawn in
+     *
+     * @param band band index, 0 for the nearest
+     * @return the color
+     */
+    static Color color(int band) {
+        return BAND_COLORS[Math.min(band, BAND_COLORS.length - 1)];
+    }
+}
@@ -0,0 +1,182 @@
+package src;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Streaming loader for the graph JSON format. Nodes and edges are read token
+ * by token with a JsonReader straight into a GraphBuilder, without building a
+ * JSON tree, splitting coordinate strings or creating per-node names.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class JsonGraphReader {
+
+    // Powers of ten that are exact doubles, for the coordinate fast path
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private JsonGraphReader() {
+    }
+
+    // - Methods
+
+    /**
+     * Reads a graph document into a builder. Edges whose endpoints are not
+     * listed as nodes, or whose weight is missing, negative or not a finite
+     * number, are dropped and counted by the builder.
+     *
+     * @param reader source of the JSON document
+     * @param builder builder receiving the nodes and edges
+     * @throws IOException if reading fails or the document is malformed
+     */
+    static void read(Reader reader, GraphBuilder builder) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        // Edge endpoints are kept as coordinates until every node is known,
+        // since the document may list edges first
+        double[] edgeBuffer = new double[5 * 1024];
+        int bufferedEdges = 0;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (name.equals("nodes")) {
+                json.beginArray();
+                while (json.hasNext()) {
+                    readNode(json, builder);
+                }
+                json.endArray();
+            } else if (name.equals("edges")) {
+                json.beginArray();
+                while (json.hasNext()) {
+                    if (bufferedEdges * 5 == edgeBuffer.length) {
+                        edgeBuffer = Arrays.copyOf(edgeBuffer, edgeBuffer.length * 2);
+                    }
+                    readEdge(json, edgeBuffer, bufferedEdges * 5);
+                    bufferedEdges++;
+                }
+                json.endArray();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+
+        for (int i = 0; i < bufferedEdges; i++) {
+            int base = i * 5;
+            int a = builder.findNode(edgeBuffer[base], edgeBuffer[base + 1]);
+            int b = builder.findNode(edgeBuffer[base + 2], edgeBuffer[base + 3]);
+            if (a >= 0 && b >= 0) {
+                builder.addEdge(a, b, edgeBuffer[base + 4]);
+            } else {
+                builder.skipEdge();
+            }
+        }
+    }
+
+    private static void readNode(JsonReader json, GraphBuilder builder) throws IOException {
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+        boolean step = false;
+        Surface surface = Surface.UNKNOWN;
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (name.equals("coordinates")) {
+                String coordinates = json.nextString();
+                int comma = coordinates.indexOf(',');
+                latitude = parseDouble(coordinates, 0, comma);
+                longitude = parseDouble(coordinates, comma + 1, coordinates.length());
+            } else if (name.equals("isStep") && json.peek() == JsonToken.BOOLEAN) {
+                step = json.nextBoolean();
+            } else if (name.equals("surface") && json.peek() == JsonToken.STRING) {
+                surface = Surface.fromTag(json.nextString());
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        if (Double.isNaN(latitude)) {
+            throw new IOException("Node without coordinates at " + json.getPath());
+        }
+        builder.addNode(latitude, longitude, NodeAttributes.of(step, surface));
+    }
+
+    private static void readEdge(JsonReader json, double[] buffer, int base) throws IOException {
+        buffer[base] = Double.NaN;
+        buffer[base + 2] = Double.NaN;
+        buffer[base + 4] = Double.NaN;
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (name.equals("from") || name.equals("to")) {
+                int offset = name.equals("from") ? base : base + 2;
+                String coordinates = json.nextString();
+                int comma = coordinates.indexOf(',');
+                buffer[offset] = parseDouble(coordinates, 0, comma);
+                buffer[offset + 1] = parseDouble(coordinates, comma + 1, coordinates.length());
+            } else if (name.equals("weight") && json.peek() == JsonToken.NUMBER) {
+                buffer[base + 4] = json.nextDouble();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+    }
+
+    /**
+     * Parses a plain decimal number from part of a string. Numbers with at
+     * most 15 significant digits and no exponent are converted exactly as
+     * mantissa / 10^k, which gives the same correctly rounded result as
+     * Double.parseDouble; anything else falls back to Double.parseDouble.
+     *
+     * @param s the string
+     * @param start first character
+     * @param end one past the last character
+     * @return the parsed value
+     */
+    static double parseDouble(String s, int start, int end) {
+        if (start < 0 || start >= end) {
+            throw new NumberFormatException("Malformed coordinate: " + s);
+        }
+        int i = start;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+        if (i != end || digits > 15 || fractionDigits == 0 || fractionDigits >= POWERS_OF_TEN.length
+                || (fractionDigits < 0 && i == start + (negative ? 1 : 0))) {
+            return Double.parseDouble(s.substring(start, end).trim());
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+}
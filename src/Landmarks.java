@@ -0,0 +1,229 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Landmark distance tables for the ALT heuristic. A handful of landmarks are
+ * picked far apart in the largest connected component, and the shortest
+ * path distance from each landmark to every node is stored in one primitive
+ * array, node-major so that all landmarks of a node share a cache line.
+ * By the triangle inequality |d(L, t) - d(L, v)| is a lower bound on the
+ * distance from v to t for every landmark L.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class Landmarks {
+
+    /** Landmarks picked by default */
+    static final int DEFAULT_COUNT = 16;
+
+    // - Fields
+
+    private final int[] landmarks;      // node id of each landmark
+    private final double[] distances;   // distance landmark -> node, at [node * count + landmark]
+
+    // - Constructor(s)
+
+    private Landmarks(int[] landmarks, double[] distances) {
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    // - Methods
+
+    /**
+     * Picks landmarks with the farthest-point rule inside the largest
+     * connected component and computes their distance tables
+     *
+     * @param graph the graph
+     * @param count number of landmarks to pick
+     * @return the landmark tables
+     */
+    public static Landmarks select(CsrGraph graph, int count) {
+        int nodeCount = graph.nodeCount();
+        int seed = largestComponentNode(graph);
+        if (seed < 0) {
+            return new Landmarks(new int[0], new double[0]);
+        }
+
+        double[] single = new double[nodeCount];
+        double[] nearest = new double[nodeCount];   // distance to the closest landmark so far
+        IndexedHeap heap = new IndexedHeap(4);
+        heap.reset(nodeCount);
+
+        // The first landmark is the node farthest from the seed
+        dijkstra(graph, seed, single, heap);
+        int next = farthest(single, single);
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+
+        int[] picked = new int[count];
+        double[][] tables = new double[count][];
+        int picks = 0;
+        while (picks < count && next >= 0) {
+            double[] table = new double[nodeCount];
+            dijkstra(graph, next, table, heap);
+            picked[picks] = next;
+            tables[picks] = table;
+            picks++;
+            for (int v = 0; v < nodeCount; v++) {
+                nearest[v] = Math.min(nearest[v], table[v]);
+            }
+            next = farthest(nearest, table);
+        }
+
+        double[] distances = new double[nodeCount * picks];
+        for (int v = 0; v < nodeCount; v++) {
+            for (int i = 0; i < picks; i++) {
+                distances[v * picks + i] = tables[i][v];
+            }
+        }
+        return new Landmarks(Arrays.copyOf(picked, picks), distances);
+    }
+
+    /**
+     * Gets the number of landmarks
+     *
+     * @return landmark count
+     */
+    public int count() {
+        return landmarks.length;
+    }
+
+    /**
+     * Gets the node id of a landmark
+     *
+     * @param landmark landmark index
+     * @return node id
+     */
+    public int landmark(int landmark) {
+        return landmarks[landmark];
+    }
+
+    /**
+     * Gets the shortest path distance from a landmark to a node
+     *
+     * @param landmark landmark index
+     * @param node node id
+     * @return distance, or positive infinity if the node is unreachable
+     */
+    public double distance(int landmark, int node) {
+        return distances[node * landmarks.length + landmark];
+    }
+
+    /**
+     * Lower bound on the distance between two nodes from one landmark
+     *
+     * @param landmark landmark index
+     * @param from node id
+     * @param to node id
+     * @return lower bound, positive infinity if exactly one of the nodes is
+     *         reachable from the landmark, 0 if neither is
+     */
+    double bound(int landmark, int from, int to) {
+        double a = distance(landmark, from);
+        double b = distance(landmark, to);
+        if (a == Double.POSITIVE_INFINITY || b == Double.POSITIVE_INFINITY) {
+            return a == b ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return Math.abs(a - b);
+    }
+
+    /**
+     * Picks the landmarks giving the tightest bounds for one query
+     *
+     * @param from start node id
+     * @param to goal node id
+     * @param active receives the chosen landmark indices, best first
+     * @return number of landmarks written to active
+     */
+    int selectActive(int from, int to, int[] active) {
+        int chosen = 0;
+        double[] bounds = new double[active.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            double bound = bound(i, from, to);
+            int slot = chosen < active.length ? chosen++ : active.length;
+            while (slot > 0 && bounds[slot - 1] < bound) {
+                if (slot < active.length) {
+                    bounds[slot] = bounds[slot - 1];
+                    active[slot] = active[slot - 1];
+                }
+                slot--;
+            }
+            if (slot < active.length) {
+                bounds[slot] = bound;
+                active[slot] = i;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Finds a node of the largest connected component
+     */
+    private static int largestComponentNode(CsrGraph graph) {
+        int nodeCount = graph.nodeCount();
+        boolean[] seen = new boolean[nodeCount];
+        int[] stack = new int[nodeCount];
+        int best = -1;
+        int bestSize = 0;
+        for (int root = 0; root < nodeCount; root++) {
+            if (seen[root]) {
+                continue;
+            }
+            int size = 0;
+            int top = 0;
+            stack[top++] = root;
+            seen[root] = true;
+            while (top > 0) {
+                int u = stack[--top];
+                size++;
+                for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                    int v = graph.target(arc);
+                    if (!seen[v]) {
+                        seen[v] = true;
+                        stack[top++] = v;
+                    }
+                }
+            }
+            if (size > bestSize) {
+                bestSize = size;
+                best = root;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the node with the largest finite score, restricted to nodes the
+     * filter table reaches
+     */
+    private static int farthest(double[] score, double[] filter) {
+        int best = -1;
+        for (int v = 0; v < score.length; v++) {
+            if (filter[v] != Double.POSITIVE_INFINITY && score[v] > 0
+                    && (best < 0 || score[v] > score[best])) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    private static void dijkstra(CsrGraph graph, int source, double[] cost, IndexedHeap heap) {
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        heap.reset(graph.nodeCount());
+        cost[source] = 0;
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                int v = graph.target(arc);
+                double candidate = cost[u] + graph.weight(arc);
+                if (candidate < cost[v]) {
+                    cost[v] = candidate;
+                    heap.push(v, candidate);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package src;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values with bounded relative
+ * error, in the style of HdrHistogram. Values below 64 get a bucket each;
+ * above that, every power of two is split into 32 equal sub-buckets, so a
+ * reported percentile is within about 3% of the recorded value. Recording
+ * is one atomic increment plus two adder updates, and readers see an
+ * approximate snapshot while writers run.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int HALF = 1 << (SUB_BUCKET_BITS - 1);     // sub-buckets per power of two
+
+    // - Fields
+
+    private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BUCKET_BITS) * HALF + 2 * HALF);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    // - Methods
+
+    /**
+     * Records one value, negative values count as zero
+     *
+     * @param value value to record
+     */
+    void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(index(v));
+        total.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Gets the number of recorded values
+     *
+     * @return value count
+     */
+    long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    double mean() {
+        long count = count();
+        return count == 0 ? 0 : total.sum() / (double) count;
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value at a percentile, as the upper end of its bucket
+     *
+     * @param percentile fraction of values at or below the result, 0 to 1
+     * @return the value, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears every recorded value
+     */
+    void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Gets the bucket of a value: the value itself below 2 * HALF, otherwise
+     * the power of two it falls in and its top SUB_BUCKET_BITS bits
+     */
+    static int index(long value) {
+        if (value < 2 * HALF) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket
+     */
+    static long highestValue(int index) {
+        if (index < 2 * HALF) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long sub = index - (long) shift * HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
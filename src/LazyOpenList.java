@@ -0,0 +1,64 @@
+package src;
+
+import java.util.PriorityQueue;
+
+/**
+ * Open list backed by java.util.PriorityQueue. It has no decrease-key, so a
+ * node is queued again whenever its key improves and the pathfinder skips
+ * the stale copies when they are polled.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class LazyOpenList implements OpenList {
+
+    /**
+     * Entry of the queue, a node id with the key it was pushed with
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final int node;
+        private final double key;
+
+        Entry(int node, double key) {
+            this.node = node;
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Double.compare(key, other.key);
+        }
+    }
+
+    // - Fields
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    // - Methods
+
+    @Override
+    public void reset(int nodeCount) {
+        queue.clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public double peekKey() {
+        Entry top = queue.peek();
+        return top == null ? Double.POSITIVE_INFINITY : top.key;
+    }
+
+    @Override
+    public void push(int node, double key) {
+        queue.add(new Entry(node, key));
+    }
+
+    @Override
+    public int poll() {
+        return queue.poll().node;
+    }
+}
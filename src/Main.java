@@ -2,26 +2,64 @@ package src;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Paths;
 
 /**
- * Main class, loads the map and runs the GUI
- * 
+ * Main class, loads the map and runs the GUI, or the HTTP routing service
+ * when started with --serve [port]
+ *
  * @author cbrodish03 hosamk Zachvhincent
  * @version 11/25/2024
  */
 public class Main {
     public static void main(String[] args) {
         try {
+            // Parse the command line: [--serve [port]] [map file]
+            boolean serve = false;
+            int port = RoutingServer.DEFAULT_PORT;
+            String mapFile = null;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--serve")) {
+                    serve = true;
+                    if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                        port = Integer.parseInt(args[++i]);
+                    }
+                } else {
+                    mapFile = args[i];
+                }
+            }
+
             // Create a new CampusMap instance
             CampusMap campusMap = new CampusMap();
-            CampusGUI campusGUI = new CampusGUI(campusMap);
 
-            // Load the map from the JSON file bundled inside the JAR
-            InputStream inputStream = Main.class.getResourceAsStream("/graphUpdated.json");
-            if (inputStream == null) {
-                throw new RuntimeException("Resource not found: graphUpdated.json");
+            if (mapFile != null) {
+                // Load the map from a JSON file or binary snapshot on disk
+                campusMap.load(Paths.get(mapFile));
+            } else {
+                // Load the map from the JSON file bundled inside the JAR
+                InputStream inputStream = Main.class.getResourceAsStream("/graphUpdated.json");
+                if (inputStream == null) {
+                    throw new RuntimeException("Resource not found: graphUpdated.json");
+                }
+                campusMap.loadFromJson(new InputStreamReader(inputStream));
             }
-            campusMap.loadFromJson(new InputStreamReader(inputStream));
+
+            // Merged nodes, dropped edges and disconnected parts found while loading
+            System.out.println("Map: " + campusMap.getValidationReport());
+
+            // Pathfinder counters and latency percentiles, visible in jconsole
+            SearchMetrics.global().registerMBean();
+
+            if (serve) {
+                // Headless mode, no Swing
+                RoutingServer server = new RoutingServer(campusMap, port);
+                server.start();
+                System.out.println("Routing " + campusMap.getNodeCount() + " nodes on http://localhost:"
+                        + server.getPort() + "/route?from=lat,lon&to=lat,lon");
+                return;
+            }
+
+            CampusGUI campusGUI = new CampusGUI(campusMap);
 
             // Print the map for debugging
             campusMap.printMap();
@@ -0,0 +1,80 @@
+package src;
+
+/**
+ * Linear mapping between lat/long and pixel positions on the campus map
+ * image. Pixel x grows east and y grows south; y = 0 is the northern edge.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class MapProjection {
+
+    /** Projection of map_image.png */
+    static final MapProjection CAMPUS = new MapProjection(-80.443586959, -80.391861732,
+            37.211987932, 37.235746171, 15628, 7178);
+
+    // - Fields
+
+    private final double minLongitude;  // longitude of x = 0
+    private final double maxLongitude;  // longitude of x = width
+    private final double minLatitude;   // latitude of y = height
+    private final double maxLatitude;   // latitude of y = 0
+    private final int width;            // map width in pixels
+    private final int height;           // map height in pixels
+
+    // - Constructor(s)
+
+    private MapProjection(double minLongitude, double maxLongitude, double minLatitude, double maxLatitude,
+            int width, int height) {
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.width = width;
+        this.height = height;
+    }
+
+    // - Methods
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Converts a longitude to a pixel column
+     *
+     * @param longitude longitude
+     * @return x, or -1 for positive longitudes, which are not on the map
+     */
+    int longitudeToX(double longitude) {
+        if (longitude > 0)
+            return -1;
+        double proportion = (longitude - minLongitude) / (maxLongitude - minLongitude);
+        return (int) (proportion * width);
+    }
+
+    /**
+     * Converts a latitude to a pixel row
+     *
+     * @param latitude latitude
+     * @return y, or -1 for negative latitudes, which are not on the map
+     */
+    int latitudeToY(double latitude) {
+        if (latitude < 0)
+            return -1;
+        double proportion = (latitude - minLatitude) / (maxLatitude - minLatitude);
+        return height - (int) (proportion * height);
+    }
+
+    double xToLongitude(double x) {
+        return minLongitude + (x / width) * (maxLongitude - minLongitude);
+    }
+
+    double yToLatitude(double y) {
+        return minLatitude + ((height - y) / height) * (maxLatitude - minLatitude);
+    }
+}
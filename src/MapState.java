@@ -0,0 +1,150 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable routing data of a CampusMap at one version: the graph, its
+ * reweighting for every profile, the connected components of each, the
+ * landmark tables and the optional Contraction Hierarchy, along with the
+ * Node and Edge objects, spatial index and validation report of the load it
+ * came from. The map publishes a new state for every load and every edge
+ * update, so a search that reads the state once works on one consistent
+ * graph, and resolves ids to the nodes of that graph, even while the map
+ * changes.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class MapState {
+
+    // - Fields
+
+    private final long version;
+    private final Contents contents;                // nodes and edges of the load this version came from
+    private final CsrGraph[] profileGraphs;         // by RoutingProfile ordinal, FASTEST first
+    private final ComponentLabels[] components;     // components of each profile graph, same order
+    private final Landmarks landmarks;
+    private final ContractionHierarchy hierarchy;   // null if none is attached
+
+    // - Constructor(s)
+
+    MapState(long version, Contents contents, CsrGraph[] profileGraphs, ComponentLabels[] components,
+            Landmarks landmarks, ContractionHierarchy hierarchy) {
+        this.version = version;
+        this.contents = contents;
+        this.profileGraphs = profileGraphs;
+        this.components = components;
+        this.landmarks = landmarks;
+        this.hierarchy = hierarchy;
+    }
+
+    // - Methods
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Gets the nodes, edges and indexes shared by every version of one load
+     */
+    Contents contents() {
+        return contents;
+    }
+
+    /**
+     * Gets the node with an id of this version's graph
+     */
+    Node node(int id) {
+        return contents.nodes[id];
+    }
+
+    CsrGraph graph() {
+        return profileGraphs[RoutingProfile.FASTEST.ordinal()];
+    }
+
+    CsrGraph graph(RoutingProfile profile) {
+        return profileGraphs[profile.ordinal()];
+    }
+
+    ComponentLabels components(RoutingProfile profile) {
+        return components[profile.ordinal()];
+    }
+
+    /**
+     * Gets the components of every profile, shared with states that reuse them
+     */
+    ComponentLabels[] components() {
+        return components;
+    }
+
+    Landmarks landmarks() {
+        return landmarks;
+    }
+
+    ContractionHierarchy hierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * Gets the same state with a Contraction Hierarchy attached
+     */
+    MapState withHierarchy(ContractionHierarchy newHierarchy) {
+        return new MapState(version, contents, profileGraphs, components, landmarks, newHierarchy);
+    }
+
+    /**
+     * What one load produced besides the graph. Edge weight updates keep
+     * these and only change the weights of the Edge objects in place.
+     */
+    static final class Contents {
+
+        private final Node[] nodes;                 // nodes indexed by id
+        private final List<Node> nodeList;          // read-only view of nodes
+        private final ArrayList<Edge> edges;        // one Edge per pair of arcs
+        private final int[] arcEdges;               // index into edges of each arc from its lower end, else -1
+        private final SpatialIndex spatialIndex;    // grid index for nearest-node lookups
+        private final GraphValidation validation;   // what the load found wrong with the graph
+
+        Contents(Node[] nodes, ArrayList<Edge> edges, int[] arcEdges, SpatialIndex spatialIndex,
+                GraphValidation validation) {
+            this.nodes = nodes;
+            this.nodeList = Collections.unmodifiableList(Arrays.asList(nodes));
+            this.edges = edges;
+            this.arcEdges = arcEdges;
+            this.spatialIndex = spatialIndex;
+            this.validation = validation;
+        }
+
+        Node[] nodes() {
+            return nodes;
+        }
+
+        List<Node> nodeList() {
+            return nodeList;
+        }
+
+        ArrayList<Edge> edges() {
+            return edges;
+        }
+
+        /**
+         * Gets the Edge of an arc leaving the lower-numbered end of its edge
+         *
+         * @return index into edges, -1 for arcs leaving the higher end
+         */
+        int edgeOf(int arc) {
+            return arcEdges[arc];
+        }
+
+        SpatialIndex spatialIndex() {
+            return spatialIndex;
+        }
+
+        GraphValidation validation() {
+            return validation;
+        }
+    }
+}
@@ -5,17 +5,15 @@ package src;
  * @author cbrodish03 hosamk Zachvhincent
  * @version 11/25/2024
  */
-public class Node implements Comparable<Node> {
+public class Node {
 
     // - Fields
 
     private String name;        // name of node
     private double x;           // x coord
     private double y;           // y coord
-    public double cost;
-    public double heuristic;
-    public double total;
-    Node parent;
+    private int id;             // dense id assigned by CampusMap, -1 if unassigned
+    private byte attributes;    // packed step flag and surface, see NodeAttributes
     
     // - Constructor(s)
     
@@ -30,12 +28,19 @@ public class Node implements Comparable<Node> {
         this.name = name;
         this.x = x;
         this.y = y;
-        this.cost = 0;
-        this.heuristic = 0;
-        this.total = 0;
-        this.parent = null;
+        this.id = -1;
+    }
+
+    /**
+     * Node constructor for map nodes, the name is derived from the coords
+     * when first requested
+     * 
+     * @param x the x coordinate for the node
+     * @param y the y coordinate for the node
+     */
+    Node(double x, double y) {
+        this(null, x, y);
     }
-    
 
     // - Methods
 
@@ -45,6 +50,9 @@ public class Node implements Comparable<Node> {
      * @return name
      */
     public String getName() {
+        if (name == null) {
+            name = "Node(" + x + "," + y + ")";
+        }
         return name;
     }
 
@@ -67,42 +75,48 @@ public class Node implements Comparable<Node> {
     }
 
     /**
-     * Gets the cost of the node
+     * Gets the dense id of the node within its CampusMap
      * 
-     * @return cost
+     * @return id, or -1 if the node does not belong to a map
      */
-    public double getCost() {
-        return cost;
+    public int getId() {
+        return id;
     }
 
     /**
-     * Gets the heuristic value of the node
+     * Sets the dense id of the node, used by CampusMap when indexing
      * 
-     * @return heuristic
+     * @param id the id for the node
      */
-    public double getHeuristic() {
-        return heuristic;
+    void setId(int id) {
+        this.id = id;
     }
 
     /**
-     * Gets the total cost of the node
+     * Checks whether the node is a step
      * 
-     * @return total
+     * @return true for step nodes
      */
-    public double getTotal() {
-        return total;
+    public boolean isStep() {
+        return NodeAttributes.isStep(attributes);
     }
 
     /**
-     * Compares nodes based on their total cost (f = g + h)
-     * Required for PriorityQueue in A* implementation
+     * Gets the surface of the node
      * 
-     * @param other the node to compare with
-     * @return negative if this node has lower total cost, positive if higher, 0 if equal
+     * @return surface, UNKNOWN if the map gives none
      */
-    @Override
-    public int compareTo(Node other) {
-        return Double.compare(this.total, other.total);
+    public Surface getSurface() {
+        return NodeAttributes.surface(attributes);
+    }
+
+    /**
+     * Sets the packed attributes of the node, used by CampusMap when indexing
+     * 
+     * @param attributes packed NodeAttributes
+     */
+    void setAttributes(byte attributes) {
+        this.attributes = attributes;
     }
 
     /**
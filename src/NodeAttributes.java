@@ -0,0 +1,54 @@
+package src;
+
+/**
+ * Packing of the per-node attribute byte: the low four bits hold the
+ * Surface ordinal and bit four is set on step nodes.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class NodeAttributes {
+
+    /** Attributes of a node with no data: not a step, unknown surface */
+    static final byte NONE = 0;
+
+    private static final int SURFACE_MASK = 0x0F;
+    private static final int STEP = 0x10;
+
+    private NodeAttributes() {
+    }
+
+    // - Methods
+
+    /**
+     * Packs attributes into a byte
+     *
+     * @param step true for step nodes
+     * @param surface node surface
+     * @return attribute byte
+     */
+    static byte of(boolean step, Surface surface) {
+        return (byte) ((step ? STEP : 0) | surface.ordinal());
+    }
+
+    /**
+     * Merges the attributes of two entries for the same node: it is a step if
+     * either says so, and the first known surface wins
+     *
+     * @param existing attributes already recorded
+     * @param added attributes of the new entry
+     * @return merged attribute byte
+     */
+    static byte merge(byte existing, byte added) {
+        int surface = (existing & SURFACE_MASK) != 0 ? existing & SURFACE_MASK : added & SURFACE_MASK;
+        return (byte) (((existing | added) & STEP) | surface);
+    }
+
+    static boolean isStep(byte attributes) {
+        return (attributes & STEP) != 0;
+    }
+
+    static Surface surface(byte attributes) {
+        return Surface.of(attributes & SURFACE_MASK);
+    }
+}
@@ -0,0 +1,52 @@
+package src;
+
+/**
+ * Priority queue of node ids keyed by estimated total cost, used as the
+ * open list of the pathfinder.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+interface OpenList {
+
+    /**
+     * Prepares the list for a search over a graph with the given node count
+     * and removes any remaining entries.
+     *
+     * @param nodeCount number of nodes in the graph
+     */
+    void reset(int nodeCount);
+
+    /**
+     * Checks whether the list has no entries
+     *
+     * @return true if empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets a lower bound on the smallest key without removing anything.
+     * Implementations without decrease-key may report the key of a stale
+     * entry, which is never larger than the smallest live key.
+     *
+     * @return smallest key, or positive infinity when empty
+     */
+    double peekKey();
+
+    /**
+     * Queues a node, or lowers its key if it is already queued with a
+     * higher one.
+     *
+     * @param node node id
+     * @param key estimated total cost
+     */
+    void push(int node, double key);
+
+    /**
+     * Removes and returns the node with the smallest key. Implementations
+     * without decrease-key may return a node that was already settled.
+     *
+     * @return node id
+     */
+    int poll();
+}
@@ -0,0 +1,591 @@
+package src;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Importer for OpenStreetMap path exports in CSV form, one way segment per
+ * record, as ogr2ogr writes them (see bin/paths.csv). Columns are found by
+ * their header names: start_node and end_node hold "longitude,latitude"
+ * points and are required; highway, other_tags (an hstore list such as
+ * "surface"=>"paved","width"=>"3") and length in meters are used if present.
+ * <p>
+ * The file is memory-mapped in chunks of about 8 MB cut at line breaks, and
+ * the chunks are parsed into primitive buffers in parallel on a fork-join
+ * pool. Finished chunks are merged into the GraphBuilder in file order, which
+ * deduplicates endpoints by coordinate, so node ids do not depend on thread
+ * timing. Only a bounded window of chunks is parsed ahead of the merge, so
+ * memory beyond the graph itself stays bounded whatever the file size.
+ * Records are one per line; quoted fields may contain commas and doubled
+ * quotes but not line breaks.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class OsmCsvReader {
+
+    /** Nominal bytes per parse task */
+    static final int CHUNK_BYTES = 8 << 20;
+
+    private static final int SCAN_BYTES = 64 << 10;     // window searched for a line break
+    private static final Highway[] HIGHWAYS = Highway.values();
+    private static final Surface[] SURFACES = Surface.values();
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+        10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L,
+    };
+
+    private OsmCsvReader() {
+    }
+
+    // - Methods
+
+    /**
+     * Imports a CSV export into a builder on the common fork-join pool.
+     * Records whose points are missing or malformed are dropped and counted
+     * by the builder.
+     *
+     * @param file the CSV file
+     * @param builder builder receiving the nodes and edges
+     * @throws IOException if reading fails or a required column is missing
+     */
+    static void read(Path file, GraphBuilder builder) throws IOException {
+        read(file, builder, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Imports a CSV export into a builder, parsing on the given pool
+     *
+     * @param file the CSV file
+     * @param builder builder receiving the nodes and edges
+     * @param pool pool the chunks are parsed on
+     * @throws IOException if reading fails or a required column is missing
+     */
+    static void read(Path file, GraphBuilder builder, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = lineEnd(channel, 0, size);
+            Columns columns = Columns.parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd), file);
+
+            long[] bounds = chunkBounds(channel, Math.min(size, headerEnd + 1), size);
+            int chunkCount = bounds.length - 1;
+            int window = 2 * pool.getParallelism();
+            ArrayDeque<ForkJoinTask<Chunk>> inFlight = new ArrayDeque<>();
+            int submitted = 0;
+            try {
+                for (int i = 0; i < chunkCount; i++) {
+                    while (submitted < chunkCount && submitted - i < window) {
+                        long begin = bounds[submitted];
+                        long end = bounds[submitted + 1];
+                        inFlight.addLast(pool.submit(() -> parse(channel, begin, end, columns)));
+                        submitted++;
+                    }
+                    inFlight.removeFirst().get().addTo(builder);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Import of " + file + " interrupted");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException("Error importing " + file, cause);
+            } finally {
+                for (ForkJoinTask<Chunk> task : inFlight) {
+                    task.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuts the records between two offsets into chunks of about CHUNK_BYTES
+     * that each end just after a line break
+     *
+     * @return chunk boundaries, first begin to last end
+     */
+    private static long[] chunkBounds(FileChannel channel, long begin, long size) throws IOException {
+        long[] bounds = new long[16];
+        int count = 0;
+        bounds[count++] = begin;
+        long position = begin;
+        while (position < size) {
+            long nominal = position + CHUNK_BYTES;
+            position = nominal >= size ? size : Math.min(size, lineEnd(channel, nominal, size) + 1);
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+            }
+            bounds[count++] = position;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Finds the first line break at or after an offset
+     *
+     * @return its offset, or size if there is none
+     */
+    private static long lineEnd(FileChannel channel, long from, long size) throws IOException {
+        for (long start = from; start < size; start += SCAN_BYTES) {
+            int length = (int) Math.min(SCAN_BYTES, size - start);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '\n') {
+                    return start + i;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Parses the records of one chunk into primitive buffers
+     */
+    private static Chunk parse(FileChannel channel, long begin, long end, Columns columns) throws IOException {
+        // One bulk copy out of the page cache, then plain array scans
+        int length = (int) (end - begin);
+        byte[] bytes = new byte[length];
+        channel.map(FileChannel.MapMode.READ_ONLY, begin, length).get(0, bytes);
+        Chunk chunk = new Chunk(Math.max(16, length / 128));
+        int[] starts = new int[columns.count];
+        int[] ends = new int[columns.count];
+        boolean[] escaped = new boolean[columns.count];
+
+        int position = 0;
+        while (position < length) {
+            // Split one record into field ranges, quotes excluded
+            int field = 0;
+            boolean more = true;
+            while (more) {
+                int start;
+                int stop;
+                boolean hasEscapes = false;
+                if (position < length && bytes[position] == '"') {
+                    start = position + 1;
+                    int quote = start;
+                    while (quote < length) {
+                        if (bytes[quote] == '"') {
+                            if (quote + 1 < length && bytes[quote + 1] == '"') {
+                                hasEscapes = true;
+                                quote += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        quote++;
+                    }
+                    stop = quote;
+                    position = Math.min(length, quote + 1);
+                    while (position < length && bytes[position] != ',' && bytes[position] != '\n') {
+                        position++;
+                    }
+                } else {
+                    start = position;
+                    while (position < length && bytes[position] != ',' && bytes[position] != '\n') {
+                        position++;
+                    }
+                    stop = position;
+                    if (stop > start && bytes[stop - 1] == '\r') {
+                        stop--;
+                    }
+                }
+                if (field < columns.count) {
+                    starts[field] = start;
+                    ends[field] = stop;
+                    escaped[field] = hasEscapes;
+                }
+                field++;
+                more = position < length && bytes[position] == ',';
+                position++;
+            }
+            if (field == 1 && ends[0] == starts[0]) {
+                continue;   // blank line
+            }
+            if (field < columns.count) {
+                Arrays.fill(starts, field, columns.count, 0);
+                Arrays.fill(ends, field, columns.count, 0);
+            }
+            parseRecord(bytes, starts, ends, escaped, columns, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Turns the fields of one record into an edge, or counts it as
+     * malformed
+     */
+    private static void parseRecord(byte[] bytes, int[] starts, int[] ends, boolean[] escaped,
+            Columns columns, Chunk chunk) {
+        int start = columns.startNode;
+        int end = columns.endNode;
+        int startComma = indexOf(bytes, starts[start], ends[start], ',');
+        int endComma = indexOf(bytes, starts[end], ends[end], ',');
+        if (startComma < 0 || endComma < 0) {
+            chunk.malformed++;
+            return;
+        }
+        double startLongitude = parseNumber(bytes, starts[start], startComma);
+        double startLatitude = parseNumber(bytes, startComma + 1, ends[start]);
+        double endLongitude = parseNumber(bytes, starts[end], endComma);
+        double endLatitude = parseNumber(bytes, endComma + 1, ends[end]);
+        if (!isCoordinate(startLatitude, startLongitude) || !isCoordinate(endLatitude, endLongitude)) {
+            chunk.malformed++;
+            return;
+        }
+
+        Highway highway = Highway.UNKNOWN;
+        if (columns.highway >= 0 && ends[columns.highway] > starts[columns.highway]) {
+            highway = highway(bytes, starts[columns.highway], ends[columns.highway]);
+        }
+        Surface surface = Surface.UNKNOWN;
+        double width = Double.NaN;
+        if (columns.otherTags >= 0 && ends[columns.otherTags] > starts[columns.otherTags]) {
+            int[] values = chunk.tagValues;
+            tags(bytes, starts[columns.otherTags], ends[columns.otherTags], escaped[columns.otherTags] ? 2 : 1,
+                    values);
+            if (values[0] >= 0) {
+                surface = surface(bytes, values[0], values[1]);
+            }
+            if (values[2] >= 0) {
+                width = parseWidth(new String(bytes, values[2], values[3] - values[2], StandardCharsets.UTF_8));
+            }
+        }
+        double length = Double.NaN;
+        if (columns.length >= 0) {
+            length = parseNumber(bytes, starts[columns.length], ends[columns.length]);
+        }
+        if (!(length >= 0) || length == Double.POSITIVE_INFINITY) {
+            length = Heuristic.haversine(startLatitude, startLongitude, endLatitude, endLongitude);
+        }
+        chunk.add(startLatitude, startLongitude, endLatitude, endLongitude, length,
+                NodeAttributes.of(highway == Highway.STEPS, surface), EdgeAttributes.of(highway, surface, width));
+    }
+
+    private static boolean isCoordinate(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, char c) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a decimal number without building a string. Up to 15
+     * significant digits the result is the mantissa divided by a power of
+     * ten, which both fit a double exactly, so the division rounds exactly
+     * like Double.parseDouble; longer or exponent forms go to parseDouble.
+     *
+     * @return the number, or NaN if the field is empty or not a number
+     */
+    static double parseNumber(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to && bytes[i] == ' ') {
+            i++;
+        }
+        int stop = to;
+        while (stop > i && bytes[stop - 1] == ' ') {
+            stop--;
+        }
+        if (i == stop) {
+            return Double.NaN;
+        }
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fraction = -1;
+        boolean any = false;
+        for (int p = i; p < stop; p++) {
+            byte b = bytes[p];
+            if (b >= '0' && b <= '9') {
+                any = true;
+                if (mantissa != 0 || b != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (fraction >= 0) {
+                    fraction++;
+                }
+                if (digits > 15 || fraction >= POWERS_OF_TEN.length) {
+                    return slowNumber(bytes, from, to);
+                }
+            } else if (b == '.' && fraction < 0) {
+                fraction = 0;
+            } else {
+                return slowNumber(bytes, from, to);
+            }
+        }
+        if (!any) {
+            return Double.NaN;
+        }
+        double value = fraction > 0 ? mantissa / (double) POWERS_OF_TEN[fraction] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private static double slowNumber(byte[] bytes, int from, int to) {
+        try {
+            return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Finds the surface and width values in an hstore list such as
+     * "foot"=>"yes","width"=>"3", where keys and values are quoted and may
+     * escape a quote with a backslash. The list is scanned in place: inside
+     * a quoted CSV field each of its quotes is doubled, so a quote is quote
+     * bytes long.
+     *
+     * @param values receives the byte range of the surface value, then of
+     *        the width value, -1 where a key is absent, NULL or malformed
+     */
+    static void tags(byte[] bytes, int from, int to, int quote, int[] values) {
+        Arrays.fill(values, -1);
+        int i = from;
+        while (i < to) {
+            while (i < to && (bytes[i] == ',' || bytes[i] == ' ')) {
+                i++;
+            }
+            int keyStart = i + quote;
+            int keyEnd = quoted(bytes, i, to, quote);
+            if (keyEnd < 0) {
+                return;
+            }
+            i = keyEnd + quote;
+            while (i < to && bytes[i] == ' ') {
+                i++;
+            }
+            if (i + 1 >= to || bytes[i] != '=' || bytes[i + 1] != '>') {
+                return;
+            }
+            i += 2;
+            while (i < to && bytes[i] == ' ') {
+                i++;
+            }
+            if (i + 4 <= to && bytes[i] == 'N' && bytes[i + 1] == 'U' && bytes[i + 2] == 'L' && bytes[i + 3] == 'L') {
+                i += 4;
+                continue;
+            }
+            int valueStart = i + quote;
+            int valueEnd = quoted(bytes, i, to, quote);
+            if (valueEnd < 0) {
+                return;
+            }
+            i = valueEnd + quote;
+            int slot = equals("surface", bytes, keyStart, keyEnd) ? 0
+                    : equals("width", bytes, keyStart, keyEnd) ? 2 : -1;
+            if (slot >= 0 && values[slot] < 0) {
+                values[slot] = valueStart;
+                values[slot + 1] = valueEnd;
+            }
+        }
+    }
+
+    /**
+     * Skips one quoted hstore string
+     *
+     * @return the index of the closing quote, or -1 if malformed
+     */
+    private static int quoted(byte[] bytes, int from, int to, int quote) {
+        if (!isQuote(bytes, from, to, quote)) {
+            return -1;
+        }
+        for (int i = from + quote; i < to; i++) {
+            if (bytes[i] == '\\') {
+                i += isQuote(bytes, i + 1, to, quote) ? quote : 1;
+            } else if (isQuote(bytes, i, to, quote)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isQuote(byte[] bytes, int at, int to, int quote) {
+        return at + quote <= to && bytes[at] == '"' && (quote == 1 || bytes[at + 1] == '"');
+    }
+
+    /**
+     * Finds the highway whose tag is spelled by a byte range, without
+     * decoding it; tags are plain ASCII
+     */
+    private static Highway highway(byte[] bytes, int from, int to) {
+        for (Highway highway : HIGHWAYS) {
+            if (highway.getTag() != null && equals(highway.getTag(), bytes, from, to)) {
+                return highway;
+            }
+        }
+        return Highway.OTHER;
+    }
+
+    private static Surface surface(byte[] bytes, int from, int to) {
+        for (Surface surface : SURFACES) {
+            if (surface.getTag() != null && equals(surface.getTag(), bytes, from, to)) {
+                return surface;
+            }
+        }
+        for (String dirt : Surface.DIRT_TAGS) {
+            if (equals(dirt, bytes, from, to)) {
+                return Surface.DIRT;
+            }
+        }
+        return from == to ? Surface.UNKNOWN : Surface.OTHER;
+    }
+
+    private static boolean equals(String text, byte[] bytes, int from, int to) {
+        if (text.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (bytes[from + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads an OpenStreetMap width value: a number of meters, optionally
+     * followed by "m"
+     *
+     * @return width in meters, NaN if absent or in another unit
+     */
+    static double parseWidth(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        String number = value.trim();
+        if (number.endsWith("m")) {
+            number = number.substring(0, number.length() - 1).trim();
+        }
+        try {
+            double width = Double.parseDouble(number);
+            return width > 0 ? width : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Positions of the columns used, by header name
+     */
+    private static final class Columns {
+
+        private final int count;        // columns in the header
+        private final int startNode;
+        private final int endNode;
+        private final int highway;      // -1 if absent
+        private final int otherTags;    // -1 if absent
+        private final int length;       // -1 if absent
+
+        private Columns(String[] names) {
+            this.count = names.length;
+            this.startNode = indexOf(names, "start_node");
+            this.endNode = indexOf(names, "end_node");
+            this.highway = indexOf(names, "highway");
+            this.otherTags = indexOf(names, "other_tags");
+            this.length = indexOf(names, "length");
+        }
+
+        static Columns parse(MappedByteBuffer header, Path file) throws IOException {
+            byte[] raw = new byte[header.limit()];
+            header.get(0, raw);
+            String line = new String(raw, StandardCharsets.UTF_8);
+            if (line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            String[] names = line.strip().split(",", -1);
+            for (int i = 0; i < names.length; i++) {
+                names[i] = names[i].strip().replace("\"", "");
+            }
+            Columns columns = new Columns(names);
+            if (columns.startNode < 0 || columns.endNode < 0) {
+                throw new IOException("CSV needs start_node and end_node columns: " + file);
+            }
+            return columns;
+        }
+
+        private static int indexOf(String[] names, String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Records parsed from one chunk, waiting to be merged
+     */
+    private static final class Chunk {
+
+        private double[] points;        // start latitude, start longitude, end latitude, end longitude per record
+        private double[] lengths;
+        private byte[] nodeAttributes;  // packed NodeAttributes of both ends
+        private int[] edgeAttributes;   // packed EdgeAttributes
+        private int records;
+        private int malformed;          // records dropped
+        private final int[] tagValues = new int[4];     // scratch value ranges for tags()
+
+        Chunk(int capacity) {
+            points = new double[capacity * 4];
+            lengths = new double[capacity];
+            nodeAttributes = new byte[capacity];
+            edgeAttributes = new int[capacity];
+        }
+
+        void add(double startLatitude, double startLongitude, double endLatitude, double endLongitude,
+                double length, byte nodeAttribute, int edgeAttribute) {
+            if (records == lengths.length) {
+                points = Arrays.copyOf(points, records * 8);
+                lengths = Arrays.copyOf(lengths, records * 2);
+                nodeAttributes = Arrays.copyOf(nodeAttributes, records * 2);
+                edgeAttributes = Arrays.copyOf(edgeAttributes, records * 2);
+            }
+            int base = records * 4;
+            points[base] = startLatitude;
+            points[base + 1] = startLongitude;
+            points[base + 2] = endLatitude;
+            points[base + 3] = endLongitude;
+            lengths[records] = length;
+            nodeAttributes[records] = nodeAttribute;
+            edgeAttributes[records] = edgeAttribute;
+            records++;
+        }
+
+        void addTo(GraphBuilder builder) {
+            for (int i = 0; i < records; i++) {
+                int base = i * 4;
+                int a = builder.addNode(points[base], points[base + 1], nodeAttributes[i]);
+                int b = builder.addNode(points[base + 2], points[base + 3], nodeAttributes[i]);
+                builder.addEdge(a, b, lengths[i], edgeAttributes[i]);
+            }
+            for (int i = 0; i < malformed; i++) {
+                builder.skipEdge();
+            }
+        }
+    }
+}
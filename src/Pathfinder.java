@@ -1,10 +1,9 @@
 package src;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Set;
+import java.util.concurrent.CancellationException;
 /**
  * Pathfinder class, pathfinds using A* algorithm between two nodes
  * 
@@ -14,140 +13,399 @@ import java.util.Set;
 
 public class Pathfinder {
     
-    private static final double COORDINATE_EPSILON = 0.0000001;
-    
     public static class PathResult {
         private final List<Node> path;
+        private int[] nodeIds;          // ids of the path's nodes, derived from path when not given
+        private EncodedRoute route;     // built on first use
         private final double distance;
+        private final int settledNodes;
+        private final int relaxedEdges;
+        private final int heapOperations;
         
         public PathResult(List<Node> path, double distance) {
+            this(path, distance, 0);
+        }
+        
+        public PathResult(List<Node> path, double distance, int settledNodes) {
+            this(path, distance, settledNodes, 0, 0);
+        }
+        
+        public PathResult(List<Node> path, double distance, int settledNodes, int relaxedEdges,
+                int heapOperations) {
+            this(path, null, distance, settledNodes, relaxedEdges, heapOperations);
+        }
+        
+        PathResult(List<Node> path, int[] nodeIds, double distance, int settledNodes, int relaxedEdges,
+                int heapOperations) {
             this.path = path;
+            this.nodeIds = nodeIds;
             this.distance = distance;
+            this.settledNodes = settledNodes;
+            this.relaxedEdges = relaxedEdges;
+            this.heapOperations = heapOperations;
         }
         
         public List<Node> getPath() {
             return path;
         }
         
+        /**
+         * Gets the ids of the path's nodes, from start to goal
+         * 
+         * @return a copy of the node ids, empty if no path was found
+         */
+        public int[] getNodeIds() {
+            return nodeIds().clone();
+        }
+        
+        /**
+         * Gets the result's own node id array, which callers must not change
+         */
+        int[] nodeIds() {
+            int[] ids = nodeIds;
+            if (ids == null) {
+                ids = new int[path.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = path.get(i).getId();
+                }
+                nodeIds = ids;
+            }
+            return ids;
+        }
+        
+        /**
+         * Gets the path in compact form, node ids plus an encoded polyline,
+         * for caching or sending
+         * 
+         * @return the encoded route
+         */
+        public EncodedRoute getRoute() {
+            EncodedRoute encoded = route;
+            if (encoded == null) {
+                encoded = EncodedRoute.of(path, nodeIds(), distance);
+                route = encoded;
+            }
+            return encoded;
+        }
+        
         public double getDistance() {
             return distance;
         }
+        
+        /**
+         * Gets the number of nodes the search settled, a measure of its work
+         * 
+         * @return settled node count
+         */
+        public int getSettledNodes() {
+            return settledNodes;
+        }
+        
+        /**
+         * Gets the number of arcs the search scanned out of settled nodes
+         * 
+         * @return relaxed edge count
+         */
+        public int getRelaxedEdges() {
+            return relaxedEdges;
+        }
+        
+        /**
+         * Gets the number of pushes and polls on the open lists
+         * 
+         * @return heap operation count
+         */
+        public int getHeapOperations() {
+            return heapOperations;
+        }
     }
     
-    public static PathResult aStarSearch(Node start, Node goal, ArrayList<Edge> edges) {
-        System.out.println("Starting A* search from " + start.getName() + " to " + goal.getName());
-        
-        // Create a map of nodes to track their states
-        Set<Node> allNodes = new HashSet<>();
-        for (Edge edge : edges) {
-            allNodes.add(edge.getFirstNode());
-            allNodes.add(edge.getSecondNode());
+    // Search state is pooled per thread so one map can serve concurrent queries
+    private static final ThreadLocal<SearchWorkspace> WORKSPACES = ThreadLocal.withInitial(SearchWorkspace::new);
+    
+    /**
+     * Gets the search workspace of the calling thread, shared by every
+     * search engine so each thread holds one set of arrays
+     */
+    static SearchWorkspace workspace() {
+        return WORKSPACES.get();
+    }
+    
+    // Settled nodes between checks of the interrupt flag, a power of two
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+    
+    /**
+     * Lets a search on an interrupted thread give up, checked every
+     * CANCEL_CHECK_INTERVAL settled nodes so the loop stays cheap
+     * 
+     * @param settled nodes settled so far
+     * @throws CancellationException if the calling thread is interrupted
+     */
+    static void checkCancelled(int settled) {
+        if ((settled & (CANCEL_CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Search interrupted after " + settled + " nodes");
+        }
+    }
+    
+    public static PathResult aStarSearch(Node start, Node goal, CampusMap map) {
+        return aStarSearch(start, goal, map, SearchOptions.DEFAULT);
+    }
+    
+    /**
+     * Finds the shortest path between two nodes. A search running on an
+     * interrupted thread stops early with a CancellationException.
+     * 
+     * @param start start node
+     * @param goal goal node
+     * @param map map both nodes belong to
+     * @param options search engine, heuristic and profile
+     * @return the path, empty if the goal is unreachable
+     */
+    public static PathResult aStarSearch(Node start, Node goal, CampusMap map, SearchOptions options) {
+        SearchMetrics metrics = SearchMetrics.global();
+        long started = System.nanoTime();
+        long allocated = SearchMetrics.threadAllocatedBytes();
+        PathResult result;
+        try {
+            result = search(start, goal, map, options);
+        } catch (CancellationException e) {
+            metrics.recordCancelled();
+            throw e;
+        }
+        metrics.record(result, System.nanoTime() - started, SearchMetrics.threadAllocatedBytes() - allocated);
+        return result;
+    }
+    
+    private static PathResult search(Node start, Node goal, CampusMap map, SearchOptions options) {
+        SearchWorkspace workspace = WORKSPACES.get();
+        // One state for the whole search, whatever edge updates happen meanwhile
+        MapState state = map.state();
+        ContractionHierarchy hierarchy = state.hierarchy();
+        if (options.getEngine() == SearchOptions.Engine.CONTRACTION_HIERARCHY) {
+            if (hierarchy == null) {
+                throw new IllegalStateException("Map has no Contraction Hierarchy loaded");
+            }
+            if (options.getProfile() != RoutingProfile.FASTEST) {
+                throw new IllegalStateException("Contraction Hierarchy only supports the FASTEST profile");
+            }
+        }
+        if (!state.components(options.getProfile()).connected(start.getId(), goal.getId())) {
+            // Different components, no search could get there
+            return new PathResult(Collections.emptyList(), 0.0, 0);
+        }
+        if (options.getEngine() == SearchOptions.Engine.CONTRACTION_HIERARCHY) {
+            return hierarchy.query(start.getId(), goal.getId(), state, workspace, workspace.reverse(),
+                    options.getOpenList());
         }
+        if (options.getDirection() == SearchOptions.Direction.BIDIRECTIONAL) {
+            return bidirectionalSearch(start.getId(), goal.getId(), state, options, workspace);
+        }
+        return unidirectionalSearch(start.getId(), goal.getId(), state, options, workspace);
+    }
+    
+    private static PathResult unidirectionalSearch(int startId, int goalId, MapState state, SearchOptions options,
+            SearchWorkspace workspace) {
+        CsrGraph graph = state.graph(options.getProfile());
+        int nodeCount = graph.nodeCount();
         
-        // Reset all nodes
-        for (Node node : allNodes) {
-            node.cost = Double.MAX_VALUE;
-            node.parent = null;
-            node.total = Double.MAX_VALUE;
-            node.heuristic = 0;
+        Heuristic heuristic = new Heuristic(state, options.getHeuristic(), goalId, startId);
+        double startEstimate = heuristic.estimate(startId);
+        if (startEstimate == Double.POSITIVE_INFINITY) {
+            // The landmarks put start and goal in different components
+            return new PathResult(Collections.emptyList(), 0.0, 0);
         }
         
-        PriorityQueue<Node> openList = new PriorityQueue<>();
-        Set<Node> closedList = new HashSet<>();
+        workspace.begin(nodeCount);
+        OpenList openList = workspace.openList(options.getOpenList(), nodeCount);
         
         // Initialize start node
-        start.cost = 0;
-        start.heuristic = calculateHeuristic(start, goal);
-        start.total = start.heuristic;
-        openList.add(start);
+        workspace.update(startId, 0, -1, -1);
+        openList.push(startId, startEstimate);
         
         int iterations = 0;
-        int maxIterations = allNodes.size() * 2;
+        int maxIterations = nodeCount * 2;
+        int relaxed = 0;
+        int heapOperations = 1;
         
         while (!openList.isEmpty() && iterations < maxIterations) {
+            int current = openList.poll();
+            heapOperations++;
+            if (workspace.isClosed(current)) {
+                continue;
+            }
             iterations++;
-            Node current = openList.poll();
+            checkCancelled(iterations);
             
             // Check if we've reached the goal
-            if (areNodesEqual(current, goal)) {
-                return reconstructPathWithDistance(current, edges);
+            if (current == goalId) {
+                return reconstructPathWithDistance(state, graph, current, workspace, null, iterations, relaxed,
+                        heapOperations);
             }
             
-            closedList.add(current);
+            workspace.close(current);
+            double currentCost = workspace.cost(current);
             
-            // Get all neighbors through edges
-            List<Edge> relevantEdges = new ArrayList<>();
-            for (Edge edge : edges) {
-                if (areNodesEqual(edge.getFirstNode(), current) || areNodesEqual(edge.getSecondNode(), current)) {
-                    relevantEdges.add(edge);
+            // Expand neighbors through the adjacency index
+            relaxed += graph.endArc(current) - graph.firstArc(current);
+            for (int arc = graph.firstArc(current), end = graph.endArc(current); arc < end; arc++) {
+                int neighbor = graph.target(arc);
+                if (workspace.isClosed(neighbor)) {
+                    continue;
+                }
+                
+                double tentativeCost = currentCost + graph.weight(arc);
+                
+                if (tentativeCost < workspace.cost(neighbor)) {
+                    workspace.update(neighbor, tentativeCost, current, arc);
+                    openList.push(neighbor, tentativeCost + heuristic.estimate(neighbor));
+                    heapOperations++;
                 }
             }
+        }
+        
+        return new PathResult(Collections.emptyList(), 0.0, iterations, relaxed, heapOperations);
+    }
+    
+    /**
+     * Bidirectional A* with the average potential p(v) = (h(v, goal) - h(v, start)) / 2.
+     * The forward search keys nodes by g + p and the backward search by g - p,
+     * which keeps both consistent; the search stops once the two smallest
+     * keys add up to at least the best meeting cost found so far.
+     */
+    private static PathResult bidirectionalSearch(int startId, int goalId, MapState state, SearchOptions options,
+            SearchWorkspace forward) {
+        CsrGraph graph = state.graph(options.getProfile());
+        int nodeCount = graph.nodeCount();
+        SearchWorkspace backward = forward.reverse();
+        Heuristic toGoal = new Heuristic(state, options.getHeuristic(), goalId, startId);
+        Heuristic toStart = new Heuristic(state, options.getHeuristic(), startId, goalId);
+        if (toGoal.estimate(startId) == Double.POSITIVE_INFINITY) {
+            return new PathResult(Collections.emptyList(), 0.0, 0);
+        }
+        
+        forward.begin(nodeCount);
+        backward.begin(nodeCount);
+        OpenList forwardOpen = forward.openList(options.getOpenList(), nodeCount);
+        OpenList backwardOpen = backward.openList(options.getOpenList(), nodeCount);
+        
+        forward.update(startId, 0, -1, -1);
+        forwardOpen.push(startId, potential(startId, toGoal, toStart));
+        backward.update(goalId, 0, -1, -1);
+        backwardOpen.push(goalId, -potential(goalId, toGoal, toStart));
+        
+        double best = startId == goalId ? 0 : Double.POSITIVE_INFINITY;
+        int meeting = startId == goalId ? startId : -1;
+        int settled = 0;
+        int relaxed = 0;
+        int heapOperations = 2;
+        
+        while (!forwardOpen.isEmpty() && !backwardOpen.isEmpty()
+                && forwardOpen.peekKey() + backwardOpen.peekKey() < best) {
+            boolean isForward = forwardOpen.peekKey() <= backwardOpen.peekKey();
+            SearchWorkspace side = isForward ? forward : backward;
+            SearchWorkspace other = isForward ? backward : forward;
+            OpenList open = isForward ? forwardOpen : backwardOpen;
+            double sign = isForward ? 1 : -1;
+            
+            int current = open.poll();
+            heapOperations++;
+            if (side.isClosed(current)) {
+                continue;
+            }
+            side.close(current);
+            settled++;
+            checkCancelled(settled);
+            double currentCost = side.cost(current);
             
-            for (Edge edge : relevantEdges) {
-                Node neighbor = areNodesEqual(edge.getFirstNode(), current) ? 
-                              edge.getSecondNode() : edge.getFirstNode();
-                
-                if (neighbor == null || closedList.contains(neighbor)) {
+            relaxed += graph.endArc(current) - graph.firstArc(current);
+            for (int arc = graph.firstArc(current), end = graph.endArc(current); arc < end; arc++) {
+                int neighbor = graph.target(arc);
+                if (side.isClosed(neighbor)) {
                     continue;
                 }
                 
-                double tentativeCost = current.cost + edge.getWeight();
+                double tentativeCost = currentCost + graph.weight(arc);
                 
-                if (tentativeCost < neighbor.cost) {
-                    neighbor.parent = current;
-                    neighbor.cost = tentativeCost;
-                    neighbor.heuristic = calculateHeuristic(neighbor, goal);
-                    neighbor.total = neighbor.cost + neighbor.heuristic;
+                if (tentativeCost < side.cost(neighbor)) {
+                    side.update(neighbor, tentativeCost, current, arc);
+                    open.push(neighbor, tentativeCost + sign * potential(neighbor, toGoal, toStart));
+                    heapOperations++;
                     
-                    if (!openList.contains(neighbor)) {
-                        openList.add(neighbor);
+                    double through = tentativeCost + other.cost(neighbor);
+                    if (through < best) {
+                        best = through;
+                        meeting = neighbor;
                     }
                 }
             }
         }
         
-        return new PathResult(Collections.emptyList(), 0.0);
+        if (meeting < 0) {
+            return new PathResult(Collections.emptyList(), 0.0, settled, relaxed, heapOperations);
+        }
+        return reconstructPathWithDistance(state, graph, meeting, forward, backward, settled, relaxed,
+                heapOperations);
     }
     
-    private static boolean areNodesEqual(Node n1, Node n2) {
-        return Math.abs(n1.getX() - n2.getX()) < COORDINATE_EPSILON && 
-               Math.abs(n1.getY() - n2.getY()) < COORDINATE_EPSILON;
+    private static double potential(int node, Heuristic toGoal, Heuristic toStart) {
+        return 0.5 * (toGoal.estimate(node) - toStart.estimate(node));
     }
     
+    /**
+     * Lower bound in meters on the walking distance between two nodes: the
+     * great-circle distance, scaled down slightly to stay admissible
+     * 
+     * @param from first node
+     * @param to second node
+     * @return estimated distance in meters
+     */
     public static double calculateHeuristic(Node from, Node to) {
-        double dx = from.getX() - to.getX();
-        double dy = from.getY() - to.getY();
-        return Math.sqrt(dx * dx + dy * dy) * 100000;
+        return Heuristic.haversine(from.getX(), from.getY(), to.getX(), to.getY()) * Heuristic.GEOMETRIC_SCALE;
     }
     
-    private static PathResult reconstructPathWithDistance(Node current, ArrayList<Edge> edges) {
-        List<Node> path = new ArrayList<>();
-        Node node = current;
-        double totalDistance = 0.0;
-        
-        while (node != null) {
-            path.add(node);
-            node = node.parent;
+    /**
+     * Rebuilds the path ending at a node of the forward search, continued
+     * through the backward search from that node when one is given. Every
+     * node records the arc it was reached by, so one walk along the parent
+     * chains yields the node ids and the distance, summed over the weights
+     * of the arcs actually taken. The ids are resolved against the nodes of
+     * the state searched, not whatever the map holds by now.
+     */
+    private static PathResult reconstructPathWithDistance(MapState state, CsrGraph graph, int meeting,
+            SearchWorkspace workspace, SearchWorkspace backward, int settled, int relaxed, int heapOperations) {
+        int[] ids = new int[64];
+        int count = 0;
+        double distance = 0;
+        for (int node = meeting; node >= 0; node = workspace.parent(node)) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = node;
+            if (workspace.parentArc(node) >= 0) {
+                distance += graph.weight(workspace.parentArc(node));
+            }
         }
-        Collections.reverse(path);
-        
-        for (int i = 0; i < path.size() - 1; i++) {
-            Node currentNode = path.get(i);
-            Node nextNode = path.get(i + 1);
-            
-            for (Edge edge : edges) {
-                if ((areNodesEqual(edge.getFirstNode(), currentNode) && areNodesEqual(edge.getSecondNode(), nextNode)) ||
-                    (areNodesEqual(edge.getFirstNode(), nextNode) && areNodesEqual(edge.getSecondNode(), currentNode))) {
-                    totalDistance += edge.getWeight();
-                    break;
+        // The forward chain runs from the meeting node back to the start
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int t = ids[i];
+            ids[i] = ids[j];
+            ids[j] = t;
+        }
+        if (backward != null) {
+            for (int node = meeting; backward.parent(node) >= 0; node = backward.parent(node)) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
                 }
+                ids[count++] = backward.parent(node);
+                distance += graph.weight(backward.parentArc(node));
             }
         }
         
-        System.out.println("Path found!");
-        System.out.println("Number of nodes in path: " + path.size());
-        System.out.println("Total distance: " + String.format("%.2f meters", totalDistance));
-        
-        return new PathResult(path, totalDistance);
+        ids = Arrays.copyOf(ids, count);
+        List<Node> path = new ArrayList<>(count);
+        for (int id : ids) {
+            path.add(state.node(id));
+        }
+        return new PathResult(path, ids, distance, settled, relaxed, heapOperations);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,319 @@
+package src;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Least recently used cache of routes in front of the Pathfinder, bounded by
+ * both entry count and approximate memory. Routes are keyed by start id, goal
+ * id and routing profile and stored as int arrays of node ids; every engine,
+ * heuristic and open list finds a shortest route, so the other search options
+ * share entries. The cache is emptied when the map is loaded again. After
+ * edge weight updates only the routes they may affect are dropped: routes
+ * over a changed edge, and routes a lowered edge could shorten according to
+ * the landmark bounds. It is safe to use from many threads; searches for
+ * missing routes run outside the lock.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class RouteCache {
+
+    /** Approximate heap cost of one entry besides its node ids */
+    static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    // - Fields
+
+    private final CampusMap map;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Route> routes = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;             // approximate size of the cached routes, guarded by this
+    private long mapVersion;        // graph version the cached routes belong to, guarded by this
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // - Constructor(s)
+
+    /**
+     * Creates an empty cache for a map
+     *
+     * @param map the map routes are computed on
+     * @param maxEntries largest number of cached routes
+     * @param maxBytes largest approximate memory held by cached routes
+     */
+    public RouteCache(CampusMap map, int maxEntries, long maxBytes) {
+        if (maxEntries < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("Cache limits must not be negative");
+        }
+        this.map = map;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.mapVersion = map.getVersion();
+    }
+
+    // - Methods
+
+    /**
+     * Finds a route with the default search options
+     *
+     * @param start start node
+     * @param goal goal node
+     * @return the route
+     */
+    public Pathfinder.PathResult route(Node start, Node goal) {
+        return route(start, goal, SearchOptions.DEFAULT);
+    }
+
+    /**
+     * Finds a route, from the cache when possible
+     *
+     * @param start start node
+     * @param goal goal node
+     * @param options search options; only the profile is part of the cache key
+     * @return the route; cache hits report zero settled nodes
+     */
+    public Pathfinder.PathResult route(Node start, Node goal, SearchOptions options) {
+        Key key = new Key(start.getId(), goal.getId(), options.getProfile());
+        MapState state = map.state();
+        long version = state.version();
+        Route cached;
+        synchronized (this) {
+            if (version != mapVersion) {
+                refresh();
+            }
+            // Cached ids are only resolved against the nodes of the state they came from
+            cached = version == mapVersion ? routes.get(key) : null;
+        }
+        if (cached != null) {
+            hits.increment();
+            return new Pathfinder.PathResult(new NodeIdList(state, cached.nodes), cached.nodes, cached.distance, 0,
+                    0, 0);
+        }
+        misses.increment();
+
+        Pathfinder.PathResult result = Pathfinder.aStarSearch(start, goal, map, options);
+        // A copy, so nothing the caller does to the result reaches the cache
+        put(key, new Route(result.getNodeIds(), result.getDistance()), version);
+        return result;
+    }
+
+    /**
+     * Drops every cached route
+     */
+    public synchronized void invalidateAll() {
+        clear(mapVersion);
+    }
+
+    /**
+     * Gets the number of cached routes
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return routes.size();
+    }
+
+    /**
+     * Gets the approximate memory held by cached routes
+     *
+     * @return bytes
+     */
+    public synchronized long byteSize() {
+        return bytes;
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that ran a search
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of routes dropped to stay within the limits
+     *
+     * @return eviction count
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of routes dropped because edge updates may change them
+     *
+     * @return invalidation count
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    private synchronized void put(Key key, Route route, long version) {
+        if (version != mapVersion) {
+            // The map changed while searching; the route may already be stale
+            return;
+        }
+        Route previous = routes.put(key, route);
+        if (previous != null) {
+            bytes -= previous.bytes();
+        }
+        bytes += route.bytes();
+        Iterator<Route> eldest = routes.values().iterator();
+        while (eldest.hasNext() && (routes.size() > maxEntries || bytes > maxBytes)) {
+            bytes -= eldest.next().bytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Catches up with the map's current version, dropping only the routes
+     * that logged edge updates may affect
+     */
+    private void refresh() {
+        MapState state = map.state();
+        List<CampusMap.EdgeChange> changes = map.changesSince(mapVersion, state.version());
+        if (changes == null) {
+            clear(state.version());
+            return;
+        }
+        Iterator<Map.Entry<Key, Route>> entries = routes.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Key, Route> entry = entries.next();
+            if (isAffected(entry.getKey(), entry.getValue(), changes, state)) {
+                bytes -= entry.getValue().bytes();
+                entries.remove();
+                invalidations.increment();
+            }
+        }
+        mapVersion = state.version();
+    }
+
+    /**
+     * Checks whether a route may no longer be the shortest. A route is only
+     * safe if it avoids every changed edge and no lowered edge (u, v) could
+     * shorten it: bound(start, u) + weight + bound(v, goal) must not beat its
+     * distance either way round. Profiles only scale weights up, so the
+     * FASTEST weight bounds every profile.
+     */
+    private static boolean isAffected(Key key, Route route, List<CampusMap.EdgeChange> changes, MapState state) {
+        for (CampusMap.EdgeChange change : changes) {
+            for (int i = 1; i < route.nodes.length; i++) {
+                if (change.connects(route.nodes[i - 1], route.nodes[i])) {
+                    return true;
+                }
+            }
+            if (change.getNewWeight() >= change.getOldWeight()) {
+                continue;
+            }
+            if (route.nodes.length == 0) {
+                return true;    // no route before, perhaps one now
+            }
+            double weight = change.getNewWeight();
+            double forward = Heuristic.lowerBound(state, key.start, change.getFrom()) + weight
+                    + Heuristic.lowerBound(state, change.getTo(), key.goal);
+            double backward = Heuristic.lowerBound(state, key.start, change.getTo()) + weight
+                    + Heuristic.lowerBound(state, change.getFrom(), key.goal);
+            if (Math.min(forward, backward) < route.distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clear(long version) {
+        routes.clear();
+        bytes = 0;
+        mapVersion = version;
+    }
+
+    /**
+     * Cache key: start, goal and the profile the route was weighted by
+     */
+    private static final class Key {
+
+        private final int start;
+        private final int goal;
+        private final RoutingProfile profile;
+
+        Key(int start, int goal, RoutingProfile profile) {
+            this.start = start;
+            this.goal = goal;
+            this.profile = Objects.requireNonNull(profile);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return start == other.start && goal == other.goal && profile == other.profile;
+        }
+
+        @Override
+        public int hashCode() {
+            return (start * 31 + goal) * 31 + profile.hashCode();
+        }
+    }
+
+    /**
+     * Cached route: node ids in path order and the total distance
+     */
+    private static final class Route {
+
+        private final int[] nodes;
+        private final double distance;
+
+        Route(int[] nodes, double distance) {
+            this.nodes = nodes;
+            this.distance = distance;
+        }
+
+        long bytes() {
+            return ENTRY_OVERHEAD_BYTES + 4L * nodes.length;
+        }
+    }
+
+    /**
+     * Read-only List view of node ids, resolving each id through the nodes
+     * of the map version the route was cached for
+     */
+    private static final class NodeIdList extends AbstractList<Node> {
+
+        private final MapState state;
+        private final int[] ids;
+
+        NodeIdList(MapState state, int[] ids) {
+            this.state = state;
+            this.ids = ids;
+        }
+
+        @Override
+        public Node get(int index) {
+            return state.node(ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
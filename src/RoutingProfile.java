@@ -0,0 +1,90 @@
+package src;
+
+/**
+ * Who is walking: each profile turns the node attributes at both ends of an
+ * edge into a multiplier on its length, or excludes the edge with positive
+ * infinity. Multipliers are never below 1, so every profile's distances
+ * are at least the FASTEST distances and the A* heuristics stay admissible.
+ * The weights of each profile are computed once per map load.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public enum RoutingProfile {
+
+    /** Plain edge lengths */
+    FASTEST {
+        @Override
+        double factor(byte from, byte to) {
+            return 1;
+        }
+    },
+
+    /** No steps and no soft ground; loose or unknown surfaces cost extra */
+    WHEELCHAIR {
+        @Override
+        double factor(byte from, byte to) {
+            if (NodeAttributes.isStep(from) || NodeAttributes.isStep(to)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return Math.max(surfaceFactor(NodeAttributes.surface(from)),
+                    surfaceFactor(NodeAttributes.surface(to)));
+        }
+
+        private double surfaceFactor(Surface surface) {
+            switch (surface) {
+                case GRAVEL:
+                case DIRT:
+                case GRASS:
+                    return Double.POSITIVE_INFINITY;
+                case COMPACTED:
+                case FINE_GRAVEL:
+                    return 1.5;
+                case UNKNOWN:
+                case OTHER:
+                    return 1.2;
+                default:
+                    return 1;
+            }
+        }
+    },
+
+    /** Only edges whose two ends are on paved (or unknown) surfaces */
+    PAVED_ONLY {
+        @Override
+        double factor(byte from, byte to) {
+            return NodeAttributes.surface(from).isPaved() && NodeAttributes.surface(to).isPaved()
+                    ? 1 : Double.POSITIVE_INFINITY;
+        }
+    };
+
+    // - Methods
+
+    /**
+     * Gets the multiplier for an edge between two nodes
+     *
+     * @param from attributes of the tail node
+     * @param to attributes of the head node
+     * @return multiplier of at least 1, or positive infinity to exclude the edge
+     */
+    abstract double factor(byte from, byte to);
+
+    /**
+     * Computes this profile's weight of every arc of a graph
+     *
+     * @param graph the graph, with FASTEST weights
+     * @return weights indexed by arc
+     */
+    double[] weights(CsrGraph graph) {
+        double[] weights = new double[graph.arcCount()];
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            byte from = graph.attributes(u);
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                double factor = factor(from, graph.attributes(graph.target(arc)));
+                // Spelled out so zero-length edges are excluded too, not NaN
+                weights[arc] = factor == Double.POSITIVE_INFINITY ? factor : graph.weight(arc) * factor;
+            }
+        }
+        return weights;
+    }
+}
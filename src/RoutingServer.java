@@ -0,0 +1,286 @@
+package src;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Headless HTTP front end for the pathfinder, built on the JDK's
+ * com.sun.net.httpserver. Endpoints:
+ *
+ * <pre>
+ *   GET /route?from=lat,lon&amp;to=lat,lon[&amp;profile=WHEELCHAIR][&amp;direction=BIDIRECTIONAL]
+ *   GET /health
+ * </pre>
+ *
+ * Both points are snapped to the nearest node and the route comes back as
+ * JSON. Requests run one per virtual thread when the JDK has them (Java 21
+ * and later) and on a fixed pool of platform threads otherwise. The map is
+ * shared by every request and must not be reloaded while serving.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class RoutingServer {
+
+    /** Port used when none is given */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Points farther than this from every node are rejected */
+    static final double MAX_SNAP_METERS = 250;
+
+    private static final int BACKLOG = 1024;
+    private static final int CACHE_ENTRIES = 4096;
+    private static final long CACHE_BYTES = 32L << 20;
+
+    // - Fields
+
+    private final CampusMap map;
+    private final RouteCache cache;
+    private final Gson gson = new Gson();   // thread-safe, shared by all requests
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // - Constructor(s)
+
+    /**
+     * Creates a server bound to a port; it does not accept requests until started
+     *
+     * @param map the loaded map to route on
+     * @param port TCP port, 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public RoutingServer(CampusMap map, int port) throws IOException {
+        this.map = map;
+        this.cache = new RouteCache(map, CACHE_ENTRIES, CACHE_BYTES);
+        // Headers and body go out in separate writes; without TCP_NODELAY each
+        // response waits for the client's delayed ACK (about 40 ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/route", this::handleRoute);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    // - Methods
+
+    /**
+     * Starts accepting requests
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for running ones to finish
+     *
+     * @param delaySeconds longest wait for running requests
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the port the server is bound to
+     *
+     * @return port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the route cache in front of the pathfinder
+     *
+     * @return the cache
+     */
+    public RouteCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the running JDK offers
+     * one, looked up reflectively since the code is compiled for Java 17
+     *
+     * @return the executor
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+            return Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "routing-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void handleRoute(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Only GET is supported");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            double[] from = parsePoint(query.get("from"));
+            double[] to = parsePoint(query.get("to"));
+            if (from == null || to == null) {
+                sendError(exchange, 400, "Expected from=lat,lon and to=lat,lon");
+                return;
+            }
+            SearchOptions options;
+            try {
+                options = parseOptions(query);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            Node start = map.findNearestNode(from[0], from[1], MAX_SNAP_METERS);
+            Node goal = map.findNearestNode(to[0], to[1], MAX_SNAP_METERS);
+            if (start == null || goal == null) {
+                sendError(exchange, 404, "No path node within " + (int) MAX_SNAP_METERS + " m of "
+                        + (start == null ? "from" : "to"));
+                return;
+            }
+
+            Pathfinder.PathResult result = cache.route(start, goal, options);
+            JsonObject body = new JsonObject();
+            body.add("from", point(start));
+            body.add("to", point(goal));
+            body.addProperty("found", !result.getPath().isEmpty());
+            body.addProperty("distance", result.getDistance());
+            body.addProperty("profile", options.getProfile().name());
+            JsonArray path = new JsonArray(result.getPath().size());
+            for (Node node : result.getPath()) {
+                JsonArray coordinates = new JsonArray(2);
+                coordinates.add(node.getX());
+                coordinates.add(node.getY());
+                path.add(coordinates);
+            }
+            body.add("path", path);
+            body.addProperty("polyline", result.getRoute().getPolyline());
+            send(exchange, 200, body);
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try {
+            JsonObject body = new JsonObject();
+            body.addProperty("status", "ok");
+            body.addProperty("nodes", map.getNodeCount());
+            body.addProperty("cacheHits", cache.getHits());
+            body.addProperty("cacheMisses", cache.getMisses());
+            send(exchange, 200, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static SearchOptions parseOptions(Map<String, String> query) {
+        SearchOptions options = SearchOptions.DEFAULT;
+        String profile = query.get("profile");
+        if (profile != null) {
+            options = options.withProfile(RoutingProfile.valueOf(profile.toUpperCase(Locale.ROOT)));
+        }
+        String direction = query.get("direction");
+        if (direction != null) {
+            options = options.withDirection(SearchOptions.Direction.valueOf(direction.toUpperCase(Locale.ROOT)));
+        }
+        return options;
+    }
+
+    private JsonObject point(Node node) {
+        JsonObject point = new JsonObject();
+        point.addProperty("node", node.getId());
+        point.addProperty("lat", node.getX());
+        point.addProperty("lon", node.getY());
+        return point;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("error", message);
+        send(exchange, status, body);
+    }
+
+    private void send(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Parses "lat,lon"
+     *
+     * @return {lat, lon}, or null if malformed
+     */
+    static double[] parsePoint(String value) {
+        if (value == null) {
+            return null;
+        }
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            return null;
+        }
+        try {
+            double latitude = Double.parseDouble(value.substring(0, comma).trim());
+            double longitude = Double.parseDouble(value.substring(comma + 1).trim());
+            if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+                return null;
+            }
+            return new double[] {latitude, longitude};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,185 @@
+package src;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide counters of the work done by Pathfinder searches, cheap
+ * enough to leave on: each search adds to a few LongAdders and records its
+ * wall time in a lock-free LatencyHistogram, so concurrent searches never
+ * contend on a lock. Exposed over JMX through SearchMetricsMXBean.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class SearchMetrics implements SearchMetricsMXBean {
+
+    /** JMX name the metrics are registered under */
+    public static final String OBJECT_NAME = "src:type=SearchMetrics";
+
+    private static final SearchMetrics GLOBAL = new SearchMetrics();
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    // - Fields
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder settledNodes = new LongAdder();
+    private final LongAdder relaxedEdges = new LongAdder();
+    private final LongAdder heapOperations = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();   // nanoseconds
+
+    // - Constructor(s)
+
+    private SearchMetrics() {
+    }
+
+    // - Methods
+
+    /**
+     * Gets the metrics every Pathfinder search reports to
+     *
+     * @return the process-wide metrics
+     */
+    public static SearchMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, once
+     */
+    public synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            System.err.println("Error registering search metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the bytes allocated so far by the calling thread
+     *
+     * @return allocated bytes, or 0 when the JVM does not measure them
+     */
+    static long threadAllocatedBytes() {
+        return THREADS == null ? 0 : Math.max(0, THREADS.getCurrentThreadAllocatedBytes());
+    }
+
+    /**
+     * Adds one finished search
+     *
+     * @param result the search result with its work counts
+     * @param nanos wall time of the search
+     * @param bytes bytes the search allocated
+     */
+    void record(Pathfinder.PathResult result, long nanos, long bytes) {
+        queries.increment();
+        settledNodes.add(result.getSettledNodes());
+        relaxedEdges.add(result.getRelaxedEdges());
+        heapOperations.add(result.getHeapOperations());
+        allocatedBytes.add(bytes);
+        latency.record(nanos);
+    }
+
+    /**
+     * Adds one search that was cancelled before it finished
+     */
+    void recordCancelled() {
+        cancelled.increment();
+    }
+
+    @Override
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    @Override
+    public long getCancelledQueries() {
+        return cancelled.sum();
+    }
+
+    @Override
+    public long getSettledNodes() {
+        return settledNodes.sum();
+    }
+
+    @Override
+    public long getRelaxedEdges() {
+        return relaxedEdges.sum();
+    }
+
+    @Override
+    public long getHeapOperations() {
+        return heapOperations.sum();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return latency.mean() / 1e3;
+    }
+
+    @Override
+    public double getLatencyP50Micros() {
+        return latency.percentile(0.50) / 1e3;
+    }
+
+    @Override
+    public double getLatencyP90Micros() {
+        return latency.percentile(0.90) / 1e3;
+    }
+
+    @Override
+    public double getLatencyP99Micros() {
+        return latency.percentile(0.99) / 1e3;
+    }
+
+    @Override
+    public double getLatencyP999Micros() {
+        return latency.percentile(0.999) / 1e3;
+    }
+
+    @Override
+    public double getMaxLatencyMicros() {
+        return latency.max() / 1e3;
+    }
+
+    @Override
+    public void reset() {
+        queries.reset();
+        cancelled.reset();
+        settledNodes.reset();
+        relaxedEdges.reset();
+        heapOperations.reset();
+        allocatedBytes.reset();
+        latency.reset();
+    }
+
+    /**
+     * Gets the HotSpot thread bean when it can measure per-thread allocation
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package src;
+
+/**
+ * JMX view of the pathfinder metrics, registered as src:type=SearchMetrics.
+ * Latencies are wall time per search in microseconds.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public interface SearchMetricsMXBean {
+
+    long getQueries();
+
+    long getCancelledQueries();
+
+    long getSettledNodes();
+
+    long getRelaxedEdges();
+
+    long getHeapOperations();
+
+    /**
+     * Gets the bytes allocated by searching threads while searching, or 0
+     * when the JVM does not measure thread allocation
+     *
+     * @return allocated bytes
+     */
+    long getAllocatedBytes();
+
+    double getMeanLatencyMicros();
+
+    double getLatencyP50Micros();
+
+    double getLatencyP90Micros();
+
+    double getLatencyP99Micros();
+
+    double getLatencyP999Micros();
+
+    double getMaxLatencyMicros();
+
+    /**
+     * Clears every counter and the latency histogram
+     */
+    void reset();
+}
@@ -0,0 +1,202 @@
+package src;
+
+import java.util.Objects;
+
+/**
+ * Immutable per-query settings for the pathfinder. Instances are shared
+ * freely between threads; the with* methods return modified copies.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class SearchOptions {
+
+    /**
+     * Data structure used for the open list of the search
+     */
+    public enum OpenListType {
+        /** java.util.PriorityQueue with lazy deletion of stale entries */
+        PRIORITY_QUEUE,
+        /** Indexed binary heap with decrease-key */
+        BINARY_HEAP,
+        /** Indexed 4-ary heap with decrease-key */
+        QUATERNARY_HEAP
+    }
+
+    /**
+     * Direction in which the search grows
+     */
+    public enum Direction {
+        /** A* from the start towards the goal */
+        UNIDIRECTIONAL,
+        /** A* from both ends, meeting in the middle */
+        BIDIRECTIONAL
+    }
+
+    /**
+     * Query engine that answers the search
+     */
+    public enum Engine {
+        /** A* over the plain graph */
+        A_STAR,
+        /** Upward search over the map's precomputed Contraction Hierarchy */
+        CONTRACTION_HIERARCHY
+    }
+
+    /**
+     * Lower bound on the remaining distance that guides A*
+     */
+    public enum HeuristicType {
+        /** Planar distance in an equirectangular projection, cheapest to evaluate */
+        EQUIRECTANGULAR,
+        /** Great-circle distance by the haversine formula */
+        HAVERSINE,
+        /** Landmark triangle-inequality bounds (ALT), combined with the equirectangular bound */
+        ALT
+    }
+
+    /** Options used when a caller does not pass any */
+    public static final SearchOptions DEFAULT = new SearchOptions(OpenListType.QUATERNARY_HEAP,
+            Direction.UNIDIRECTIONAL, Engine.A_STAR, HeuristicType.ALT, RoutingProfile.FASTEST);
+
+    // - Fields
+
+    private final OpenListType openList;
+    private final Direction direction;
+    private final Engine engine;
+    private final HeuristicType heuristic;
+    private final RoutingProfile profile;
+
+    // - Constructor(s)
+
+    private SearchOptions(OpenListType openList, Direction direction, Engine engine,
+            HeuristicType heuristic, RoutingProfile profile) {
+        this.openList = Objects.requireNonNull(openList);
+        this.direction = Objects.requireNonNull(direction);
+        this.engine = Objects.requireNonNull(engine);
+        this.heuristic = Objects.requireNonNull(heuristic);
+        this.profile = Objects.requireNonNull(profile);
+    }
+
+    // - Methods
+
+    /**
+     * Gets the open list type
+     *
+     * @return open list type
+     */
+    public OpenListType getOpenList() {
+        return openList;
+    }
+
+    /**
+     * Returns a copy of these options with another open list type
+     *
+     * @param type the open list type
+     * @return modified options
+     */
+    public SearchOptions withOpenList(OpenListType type) {
+        return new SearchOptions(type, direction, engine, heuristic, profile);
+    }
+
+    /**
+     * Gets the search direction
+     *
+     * @return direction
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns a copy of these options with another search direction
+     *
+     * @param newDirection the search direction
+     * @return modified options
+     */
+    public SearchOptions withDirection(Direction newDirection) {
+        return new SearchOptions(openList, newDirection, engine, heuristic, profile);
+    }
+
+    /**
+     * Gets the query engine
+     *
+     * @return engine
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns a copy of these options with another query engine. The
+     * direction does not apply to Contraction Hierarchy queries, which are
+     * always bidirectional.
+     *
+     * @param newEngine the query engine
+     * @return modified options
+     */
+    public SearchOptions withEngine(Engine newEngine) {
+        return new SearchOptions(openList, direction, newEngine, heuristic, profile);
+    }
+
+    /**
+     * Gets the A* heuristic
+     *
+     * @return heuristic type
+     */
+    public HeuristicType getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * Returns a copy of these options with another A* heuristic. The
+     * heuristic does not apply to Contraction Hierarchy queries.
+     *
+     * @param newHeuristic the heuristic type
+     * @return modified options
+     */
+    public SearchOptions withHeuristic(HeuristicType newHeuristic) {
+        return new SearchOptions(openList, direction, engine, newHeuristic, profile);
+    }
+
+    /**
+     * Gets the routing profile
+     *
+     * @return profile
+     */
+    public RoutingProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Returns a copy of these options with another routing profile. Contraction
+     * Hierarchy queries only support the FASTEST profile.
+     *
+     * @param newProfile the routing profile
+     * @return modified options
+     */
+    public SearchOptions withProfile(RoutingProfile newProfile) {
+        return new SearchOptions(openList, direction, engine, heuristic, newProfile);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SearchOptions other = (SearchOptions) obj;
+        return openList == other.openList && direction == other.direction && engine == other.engine
+                && heuristic == other.heuristic && profile == other.profile;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(openList, direction, engine, heuristic, profile);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchOptions[openList=" + openList + ", direction=" + direction
+                + ", engine=" + engine + ", heuristic=" + heuristic
+                + ", profile=" + profile + "]";
+    }
+}
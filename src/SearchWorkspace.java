@@ -0,0 +1,184 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Per-query search state for the pathfinder, held in primitive arrays indexed
+ * by node id. Entries are only valid when their stamp matches the current
+ * generation, so starting a new search never has to clear the arrays.
+ * A workspace belongs to one thread at a time.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+final class SearchWorkspace {
+
+    // - Fields
+
+    private int[] reachedStamp;  // generation in which the node got a cost
+    private int[] closedStamp;   // generation in which the node was settled
+    private double[] cost;       // best known cost from the start (g)
+    private int[] parent;        // predecessor on the best known path
+    private int[] parentArc;     // arc taken into the node on the best known path
+    private int generation;      // stamp of the current search
+    private final OpenList[] openLists = new OpenList[SearchOptions.OpenListType.values().length];
+    private SearchWorkspace reverse;    // state of the backward half of a bidirectional search
+
+    // - Constructor(s)
+
+    /**
+     * Creates an empty workspace, grown on the first call to begin.
+     */
+    SearchWorkspace() {
+        reachedStamp = new int[0];
+        closedStamp = new int[0];
+        cost = new double[0];
+        parent = new int[0];
+        parentArc = new int[0];
+        generation = 0;
+    }
+
+    // - Methods
+
+    /**
+     * Starts a new search over a graph with the given number of nodes.
+     *
+     * @param nodeCount number of nodes in the graph
+     */
+    void begin(int nodeCount) {
+        if (reachedStamp.length < nodeCount) {
+            reachedStamp = new int[nodeCount];
+            closedStamp = new int[nodeCount];
+            cost = new double[nodeCount];
+            parent = new int[nodeCount];
+            parentArc = new int[nodeCount];
+            generation = 0;
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Stamps wrapped around, clear them once and start over
+            Arrays.fill(reachedStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Gets a second workspace owned by this one, for searches that grow
+     * from both ends
+     *
+     * @return the reverse workspace
+     */
+    SearchWorkspace reverse() {
+        if (reverse == null) {
+            reverse = new SearchWorkspace();
+        }
+        return reverse;
+    }
+
+    /**
+     * Gets the open list of the given type, emptied and sized for the
+     * current search
+     *
+     * @param type the open list type
+     * @param nodeCount number of nodes in the graph
+     * @return the open list
+     */
+    OpenList openList(SearchOptions.OpenListType type, int nodeCount) {
+        OpenList list = openLists[type.ordinal()];
+        if (list == null) {
+            switch (type) {
+                case PRIORITY_QUEUE:
+                    list = new LazyOpenList();
+                    break;
+                case BINARY_HEAP:
+                    list = new IndexedHeap(2);
+                    break;
+                default:
+                    list = new IndexedHeap(4);
+                    break;
+            }
+            openLists[type.ordinal()] = list;
+        }
+        list.reset(nodeCount);
+        return list;
+    }
+
+    /**
+     * Gets the best known cost of a node in the current search
+     *
+     * @param node node id
+     * @return cost, or positive infinity if the node has not been reached
+     */
+    double cost(int node) {
+        return reachedStamp[node] == generation ? cost[node] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Records a better cost and predecessor for a node
+     *
+     * @param node node id
+     * @param newCost the new cost
+     * @param newParent predecessor id, -1 for the start node
+     */
+    void update(int node, double newCost, int newParent) {
+        reachedStamp[node] = generation;
+        cost[node] = newCost;
+        parent[node] = newParent;
+    }
+
+    /**
+     * Records a better cost, predecessor and incoming arc for a node
+     *
+     * @param node node id
+     * @param newCost the new cost
+     * @param newParent predecessor id, -1 for the start node
+     * @param arc arc taken from the predecessor, -1 for the start node
+     */
+    void update(int node, double newCost, int newParent, int arc) {
+        reachedStamp[node] = generation;
+        cost[node] = newCost;
+        parent[node] = newParent;
+        parentArc[node] = arc;
+    }
+
+    /**
+     * Gets the arc taken into a reached node, as recorded by the four
+     * argument update
+     *
+     * @param node node id
+     * @return arc index, -1 for the start node
+     */
+    int parentArc(int node) {
+        return parentArc[node];
+    }
+
+    /**
+     * Gets the predecessor of a reached node
+     *
+     * @param node node id
+     * @return predecessor id, -1 for the start node
+     */
+    int parent(int node) {
+        return parent[node];
+    }
+
+    /**
+     * Checks whether a node has been settled in the current search
+     *
+     * @param node node id
+     * @return true if closed
+     */
+    boolean isClosed(int node) {
+        return closedStamp[node] == generation;
+    }
+
+    /**
+     * Marks a node as settled in the current search
+     *
+     * @param node node id
+     */
+    void close(int node) {
+        closedStamp[node] = generation;
+    }
+}
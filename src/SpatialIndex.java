@@ -0,0 +1,361 @@
+package src;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid index over the nodes of a CsrGraph for snapping lat/long
+ * points to the graph. Coordinates are projected to meters with an
+ * equirectangular projection around the graph's mean latitude, and the
+ * nodes of each cell are stored contiguously, so a lookup only touches the
+ * few cells around the query point.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class SpatialIndex {
+
+    /** Mean earth radius in meters */
+    static final double EARTH_RADIUS = 6371008.8;
+
+    private static final double NODES_PER_CELL = 2.0;
+
+    // - Fields
+
+    private final double metersPerDegreeLat;    // projection scale of latitude
+    private final double metersPerDegreeLon;    // projection scale of longitude
+    private final double minX;                  // projected bounds of the grid
+    private final double minY;
+    private final double cellSize;              // cell edge in meters
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;              // first entry of each cell, length cells + 1
+    private final int[] entryNode;              // node id of each entry, grouped by cell
+    private final double[] entryX;              // projected x of each entry
+    private final double[] entryY;              // projected y of each entry
+
+    // - Constructor(s)
+
+    /**
+     * Builds the index over every node of a graph
+     *
+     * @param graph the graph to index
+     */
+    public SpatialIndex(CsrGraph graph) {
+        int nodeCount = graph.nodeCount();
+        double meanLatitude = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            meanLatitude += graph.latitude(i);
+        }
+        meanLatitude = nodeCount > 0 ? meanLatitude / nodeCount : 0;
+        metersPerDegreeLat = Math.toRadians(1) * EARTH_RADIUS;
+        metersPerDegreeLon = metersPerDegreeLat * Math.cos(Math.toRadians(meanLatitude));
+
+        double[] x = new double[nodeCount];
+        double[] y = new double[nodeCount];
+        double lowX = Double.MAX_VALUE, lowY = Double.MAX_VALUE;
+        double highX = -Double.MAX_VALUE, highY = -Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            x[i] = graph.longitude(i) * metersPerDegreeLon;
+            y[i] = graph.latitude(i) * metersPerDegreeLat;
+            lowX = Math.min(lowX, x[i]);
+            lowY = Math.min(lowY, y[i]);
+            highX = Math.max(highX, x[i]);
+            highY = Math.max(highY, y[i]);
+        }
+        if (nodeCount == 0) {
+            lowX = lowY = highX = highY = 0;
+        }
+        double width = Math.max(highX - lowX, 1);
+        double height = Math.max(highY - lowY, 1);
+        double size = Math.sqrt(width * height * NODES_PER_CELL / Math.max(nodeCount, 1));
+        columns = Math.max(1, Math.min((int) Math.ceil(width / size), 1 << 15));
+        rows = Math.max(1, Math.min((int) Math.ceil(height / size), 1 << 15));
+        cellSize = Math.max(width / columns, height / rows) * (1 + 1e-9);
+        minX = lowX;
+        minY = lowY;
+
+        // Counting sort of the nodes by cell
+        int[] cellOf = new int[nodeCount];
+        cellStart = new int[columns * rows + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            cellOf[i] = cellIndex(column(x[i]), row(y[i]));
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] next = Arrays.copyOf(cellStart, columns * rows);
+        entryNode = new int[nodeCount];
+        entryX = new double[nodeCount];
+        entryY = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            int e = next[cellOf[i]]++;
+            entryNode[e] = i;
+            entryX[e] = x[i];
+            entryY[e] = y[i];
+        }
+    }
+
+    // - Methods
+
+    /**
+     * Finds the node closest to a point
+     *
+     * @param latitude query latitude
+     * @param longitude query longitude
+     * @return node id, or -1 if the index is empty
+     */
+    public int nearest(double latitude, double longitude) {
+        return nearest(latitude, longitude, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Finds the node closest to a point within a maximum distance
+     *
+     * @param latitude query latitude
+     * @param longitude query longitude
+     * @param maxMeters largest accepted distance in meters
+     * @return node id, or -1 if no node is that close
+     */
+    public int nearest(double latitude, double longitude, double maxMeters) {
+        double qx = longitude * metersPerDegreeLon;
+        double qy = latitude * metersPerDegreeLat;
+        int centerColumn = column(qx);
+        int centerRow = row(qy);
+        int best = -1;
+        double bestSquared = maxMeters == Double.POSITIVE_INFINITY
+                ? Double.POSITIVE_INFINITY : maxMeters * maxMeters;
+        int maxRing = Math.max(columns, rows);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerColumn - ring; c <= centerColumn + ring; c += step) {
+                    if (c < 0 || c >= columns) {
+                        continue;
+                    }
+                    int cell = cellIndex(c, r);
+                    for (int e = cellStart[cell], end = cellStart[cell + 1]; e < end; e++) {
+                        double dx = entryX[e] - qx;
+                        double dy = entryY[e] - qy;
+                        double squared = dx * dx + dy * dy;
+                        if (squared <= bestSquared) {
+                            bestSquared = squared;
+                            best = entryNode[e];
+                        }
+                    }
+                }
+            }
+            // Every cell outside this ring is at least ring * cellSize away
+            double reach = ring * cellSize;
+            if (reach * reach >= bestSquared) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the k nodes closest to a point, nearest first
+     *
+     * @param latitude query latitude
+     * @param longitude query longitude
+     * @param k number of nodes to return
+     * @return node ids, fewer than k if the index holds fewer nodes
+     */
+    public int[] kNearest(double latitude, double longitude, int k) {
+        int count = Math.min(k, entryNode.length);
+        if (count <= 0) {
+            return new int[0];
+        }
+        double qx = longitude * metersPerDegreeLon;
+        double qy = latitude * metersPerDegreeLat;
+        int centerColumn = column(qx);
+        int centerRow = row(qy);
+        // Max-heap of the best candidates so far, by squared distance
+        int[] heapNode = new int[count];
+        double[] heapDistance = new double[count];
+        int size = 0;
+        int maxRing = Math.max(columns, rows);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerColumn - ring; c <= centerColumn + ring; c += step) {
+                    if (c < 0 || c >= columns) {
+                        continue;
+                    }
+                    int cell = cellIndex(c, r);
+                    for (int e = cellStart[cell], end = cellStart[cell + 1]; e < end; e++) {
+                        double dx = entryX[e] - qx;
+                        double dy = entryY[e] - qy;
+                        double squared = dx * dx + dy * dy;
+                        if (size < count) {
+                            heapUp(heapNode, heapDistance, size++, entryNode[e], squared);
+                        } else if (squared < heapDistance[0]) {
+                            heapDown(heapNode, heapDistance, size, entryNode[e], squared);
+                        }
+                    }
+                }
+            }
+            double reach = ring * cellSize;
+            if (size == count && reach * reach >= heapDistance[0]) {
+                break;
+            }
+        }
+
+        // Pop the max-heap from the back to get nearest first
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = heapNode[0];
+            heapDown(heapNode, heapDistance, i, heapNode[i], heapDistance[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds every node within a distance of a point, in no particular order
+     *
+     * @param latitude query latitude
+     * @param longitude query longitude
+     * @param radiusMeters search radius in meters
+     * @return node ids
+     */
+    public int[] withinRadius(double latitude, double longitude, double radiusMeters) {
+        double qx = longitude * metersPerDegreeLon;
+        double qy = latitude * metersPerDegreeLat;
+        double radiusSquared = radiusMeters * radiusMeters;
+        int firstColumn = column(qx - radiusMeters);
+        int lastColumn = column(qx + radiusMeters);
+        int firstRow = row(qy - radiusMeters);
+        int lastRow = row(qy + radiusMeters);
+
+        int[] result = new int[16];
+        int size = 0;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int e = cellStart[cellIndex(firstColumn, r)], end = cellStart[cellIndex(lastColumn, r) + 1];
+                    e < end; e++) {
+                double dx = entryX[e] - qx;
+                double dy = entryY[e] - qy;
+                if (dx * dx + dy * dy <= radiusSquared) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size * 2);
+                    }
+                    result[size++] = entryNode[e];
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Finds every node inside a lat/long box, in no particular order
+     *
+     * @param minLatitude southern edge
+     * @param minLongitude western edge
+     * @param maxLatitude northern edge
+     * @param maxLongitude eastern edge
+     * @return node ids
+     */
+    public int[] withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        double lowX = minLongitude * metersPerDegreeLon;
+        double highX = maxLongitude * metersPerDegreeLon;
+        double lowY = minLatitude * metersPerDegreeLat;
+        double highY = maxLatitude * metersPerDegreeLat;
+        int firstColumn = column(lowX);
+        int lastColumn = column(highX);
+        int firstRow = row(lowY);
+        int lastRow = row(highY);
+
+        int[] result = new int[16];
+        int size = 0;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int e = cellStart[cellIndex(firstColumn, r)], end = cellStart[cellIndex(lastColumn, r) + 1];
+                    e < end; e++) {
+                if (entryX[e] >= lowX && entryX[e] <= highX && entryY[e] >= lowY && entryY[e] <= highY) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size * 2);
+                    }
+                    result[size++] = entryNode[e];
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Gets the distance in meters between a point and a node, in the same
+     * projection the index uses
+     *
+     * @param graph the indexed graph
+     * @param node node id
+     * @param latitude point latitude
+     * @param longitude point longitude
+     * @return distance in meters
+     */
+    public double distance(CsrGraph graph, int node, double latitude, double longitude) {
+        double dx = (graph.longitude(node) - longitude) * metersPerDegreeLon;
+        double dy = (graph.latitude(node) - latitude) * metersPerDegreeLat;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private int column(double x) {
+        int c = (int) Math.floor((x - minX) / cellSize);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor((y - minY) / cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+
+    private static void heapUp(int[] nodes, double[] distances, int slot, int node, double distance) {
+        while (slot > 0) {
+            int parent = (slot - 1) >> 1;
+            if (distances[parent] >= distance) {
+                break;
+            }
+            nodes[slot] = nodes[parent];
+            distances[slot] = distances[parent];
+            slot = parent;
+        }
+        nodes[slot] = node;
+        distances[slot] = distance;
+    }
+
+    /**
+     * Replaces the root of a max-heap of the given size and restores order
+     */
+    private static void heapDown(int[] nodes, double[] distances, int size, int node, double distance) {
+        int slot = 0;
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distances[child + 1] > distances[child]) {
+                child++;
+            }
+            if (distances[child] <= distance) {
+                break;
+            }
+            nodes[slot] = nodes[child];
+            distances[slot] = distances[child];
+            slot = child;
+        }
+        nodes[slot] = node;
+        distances[slot] = distance;
+    }
+}
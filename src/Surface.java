@@ -0,0 +1,98 @@
+package src;
+
+/**
+ * Walking surface of a node, from the OpenStreetMap surface tag. The ordinal
+ * is stored in the low bits of a node's attribute byte, so constants may
+ * only be appended and there can be at most 16 of them.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public enum Surface {
+    /** No surface given */
+    UNKNOWN(null, true),
+    ASPHALT("asphalt", true),
+    CONCRETE("concrete", true),
+    PAVED("paved", true),
+    PAVING_STONES("paving_stones", true),
+    BRICKS("bricks", true),
+    WOOD("wood", true),
+    COMPACTED("compacted", false),
+    FINE_GRAVEL("fine_gravel", false),
+    GRAVEL("gravel", false),
+    DIRT("dirt", false),
+    GRASS("grass", false),
+    /** A surface tag not listed here, treated as unpaved to be safe */
+    OTHER(null, false);
+
+    private static final Surface[] VALUES = values();
+
+    /** Common soft, unsealed surface values that are read as DIRT */
+    static final String[] DIRT_TAGS = {"unpaved", "ground", "earth", "mud", "sand"};
+
+    // - Fields
+
+    private final String tag;       // OpenStreetMap surface value
+    private final boolean paved;    // hard, sealed surface
+
+    // - Constructor(s)
+
+    Surface(String tag, boolean paved) {
+        this.tag = tag;
+        this.paved = paved;
+    }
+
+    // - Methods
+
+    /**
+     * Gets the OpenStreetMap surface value
+     *
+     * @return tag value, or null for UNKNOWN and OTHER
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Checks whether the surface is paved
+     *
+     * @return true if paved or unknown, false for unlisted surfaces
+     */
+    public boolean isPaved() {
+        return paved;
+    }
+
+    /**
+     * Finds the surface for an OpenStreetMap surface value
+     *
+     * @param tag tag value, may be null
+     * @return the surface, UNKNOWN for null, DIRT for the DIRT_TAGS values
+     *         and OTHER for unlisted values
+     */
+    public static Surface fromTag(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return UNKNOWN;
+        }
+        for (Surface surface : VALUES) {
+            if (tag.equals(surface.tag)) {
+                return surface;
+            }
+        }
+        for (String dirt : DIRT_TAGS) {
+            if (tag.equals(dirt)) {
+                return DIRT;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Gets the surface with the given ordinal
+     *
+     * @param ordinal surface ordinal
+     * @return the surface, OTHER if the ordinal is out of range
+     */
+    static Surface of(int ordinal) {
+        return ordinal < VALUES.length ? VALUES[ordinal] : OTHER;
+    }
+}
@@ -0,0 +1,175 @@
+package src;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Properties;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Build-time tool that slices the campus map image into the tile pyramid
+ * read by BasemapLayer. Level 0 holds the image at full resolution and each
+ * further level halves it, until one tile covers the whole image. The source
+ * is decoded one tile row at a time, so the full image is never held in
+ * memory, and every coarser level is built from the tiles of the level below.
+ * Usage:
+ *
+ * <pre>
+ *   java -cp target/classes src.TileSlicer src/map_image.png src/map_tiles
+ * </pre>
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class TileSlicer {
+
+    /** Tile edge in image pixels */
+    public static final int TILE_SIZE = 256;
+
+    /** Name of the pyramid description inside the tile directory */
+    static final String MANIFEST = "tiles.properties";
+
+    private TileSlicer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TileSlicer <map image> <tile directory>");
+            System.exit(1);
+        }
+        long start = System.nanoTime();
+        int levels = slice(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.printf("Wrote %d levels to %s in %.1f s%n", levels, args[1],
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Slices an image into a tile pyramid
+     *
+     * @param image source image, any format ImageIO reads
+     * @param directory output directory, created if missing
+     * @return number of levels written
+     * @throws IOException if the image cannot be read or a tile written
+     */
+    public static int slice(Path image, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Properties manifest = new Properties();
+        BufferedImage sample = sliceFullResolution(image, directory, manifest);
+        boolean alpha = sample.getColorModel().hasAlpha();
+
+        int width = Integer.parseInt(manifest.getProperty("width"));
+        int height = Integer.parseInt(manifest.getProperty("height"));
+        int levels = 1;
+        while (width > TILE_SIZE || height > TILE_SIZE) {
+            width = (width + 1) / 2;
+            height = (height + 1) / 2;
+            downsample(directory, levels, width, height, alpha);
+            levels++;
+        }
+
+        manifest.setProperty("tileSize", Integer.toString(TILE_SIZE));
+        manifest.setProperty("levels", Integer.toString(levels));
+        try (Writer out = Files.newBufferedWriter(directory.resolve(MANIFEST))) {
+            manifest.store(out, "Map tile pyramid");
+        }
+        return levels;
+    }
+
+    /**
+     * Gets the path of a tile relative to the tile directory
+     */
+    static String tileName(int level, int column, int row) {
+        return level + "/" + column + "_" + row + ".png";
+    }
+
+    /**
+     * Writes level 0 from strips of the source one tile tall, and records the
+     * image size in the manifest
+     *
+     * @return the last strip read
+     */
+    private static BufferedImage sliceFullResolution(Path image, Path directory, Properties manifest)
+            throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(image.toFile())) {
+            if (input == null) {
+                throw new IOException("Cannot open " + image);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + image);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                manifest.setProperty("width", Integer.toString(width));
+                manifest.setProperty("height", Integer.toString(height));
+                Files.createDirectories(directory.resolve("0"));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                BufferedImage strip = null;
+                for (int row = 0; row * TILE_SIZE < height; row++) {
+                    int y = row * TILE_SIZE;
+                    int tileHeight = Math.min(TILE_SIZE, height - y);
+                    param.setSourceRegion(new Rectangle(0, y, width, tileHeight));
+                    strip = reader.read(0, param);
+                    for (int column = 0; column * TILE_SIZE < width; column++) {
+                        int x = column * TILE_SIZE;
+                        BufferedImage tile = strip.getSubimage(x, 0, Math.min(TILE_SIZE, width - x), tileHeight);
+                        write(tile, directory.resolve(tileName(0, column, row)));
+                    }
+                }
+                return strip;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Builds one level by halving each 2x2 block of tiles of the level below
+     */
+    private static void downsample(Path directory, int level, int width, int height, boolean alpha)
+            throws IOException {
+        Files.createDirectories(directory.resolve(Integer.toString(level)));
+        for (int row = 0; row * TILE_SIZE < height; row++) {
+            for (int column = 0; column * TILE_SIZE < width; column++) {
+                BufferedImage tile = new BufferedImage(Math.min(TILE_SIZE, width - column * TILE_SIZE),
+                        Math.min(TILE_SIZE, height - row * TILE_SIZE),
+                        alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = tile.createGraphics();
+                // Bilinear sampling at exactly half size averages each 2x2 pixel block
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.scale(0.5, 0.5);
+                for (int dy = 0; dy < 2; dy++) {
+                    for (int dx = 0; dx < 2; dx++) {
+                        Path child = directory.resolve(tileName(level - 1, 2 * column + dx, 2 * row + dy));
+                        if (Files.exists(child)) {
+                            g.drawImage(ImageIO.read(child.toFile()), dx * TILE_SIZE, dy * TILE_SIZE, null);
+                        }
+                    }
+                }
+                g.dispose();
+                write(tile, directory.resolve(tileName(level, column, row)));
+            }
+        }
+    }
+
+    private static void write(BufferedImage tile, Path path) throws IOException {
+        if (!ImageIO.write(tile, "png", path.toFile())) {
+            throw new IOException("No PNG writer for " + path);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plans a walk through several stops, such as the buildings of a class
+ * schedule or a list of errands. The stops are visited in the order given,
+ * or in the order that makes the walk shortest: the stop-to-stop distances
+ * come from one DistanceMatrix, and the order is found by local search,
+ * 2-opt segment reversals and Or-opt moves of up to three consecutive
+ * stops, from several seeded starting tours run in parallel. The best tour
+ * is then walked leg by leg with the Pathfinder and stitched into one path.
+ * Walking distances are the same in both directions, which the moves rely
+ * on when they reverse part of a tour.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+public final class TourPlanner {
+
+    /** Largest number of stops a tour may have */
+    public static final int MAX_STOPS = 50;
+
+    /** Number of starting tours improved in parallel; the first is built greedily */
+    static final int RESTARTS = 8;
+
+    private static final long SEED = 6122L;
+    private static final int MAX_SEGMENT = 3;       // longest run of stops an Or-opt move shifts
+    private static final double EPSILON = 1e-7;     // smallest gain in meters a move must make
+
+    /**
+     * Which orders of the stops are allowed
+     */
+    public enum Order {
+        /** Visit the stops in the order given */
+        FIXED,
+        /** Start at the first stop and end at the last, visiting the others in any order */
+        FREE,
+        /** Start at the first stop and come back to it, visiting the others in any order */
+        ROUND_TRIP
+    }
+
+    private TourPlanner() {
+    }
+
+    // - Methods
+
+    /**
+     * Plans a tour for the FASTEST profile on the common fork-join pool
+     *
+     * @param map the map
+     * @param stops stops to visit, at most MAX_STOPS
+     * @param order which orders are allowed
+     * @return the tour
+     */
+    public static Tour plan(CampusMap map, List<Node> stops, Order order) {
+        return plan(map, stops, order, RoutingProfile.FASTEST, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plans a tour. A stop may appear more than once.
+     *
+     * @param map the map
+     * @param stops stops to visit, at most MAX_STOPS
+     * @param order which orders are allowed
+     * @param profile routing profile the walk follows
+     * @param pool pool the distances and restarts are computed on
+     * @return the tour, not found if some stop cannot be reached from the
+     *         others
+     * @throws IllegalArgumentException if there are no stops or more than
+     *         MAX_STOPS
+     */
+    public static Tour plan(CampusMap map, List<Node> stops, Order order, RoutingProfile profile,
+            ForkJoinPool pool) {
+        int n = stops.size();
+        if (n == 0 || n > MAX_STOPS) {
+            throw new IllegalArgumentException("A tour needs 1 to " + MAX_STOPS + " stops, got " + n);
+        }
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = stops.get(i).getId();
+        }
+
+        // The tour as stop indices; a round trip repeats the first stop at the end
+        int[] sequence = new int[order == Order.ROUND_TRIP ? n + 1 : n];
+        for (int i = 0; i < n; i++) {
+            sequence[i] = i;
+        }
+        for (Node stop : stops) {
+            if (!map.isConnected(stops.get(0), stop, profile)) {
+                return new Tour(sequence, stops, Collections.emptyList(), new double[0], false);
+            }
+        }
+        // Fewer than two stops between the fixed ends leave nothing to reorder
+        if (order != Order.FIXED && sequence.length > 3) {
+            double[] distances = DistanceMatrix.compute(map, ids, ids, profile, pool).getDistances();
+            int[][] tours = new int[RESTARTS][];
+            double[] costs = new double[RESTARTS];
+            pool.invoke(new Restarts(distances, n, sequence, tours, costs, 0, RESTARTS));
+            int best = 0;
+            for (int r = 1; r < RESTARTS; r++) {
+                if (costs[r] < costs[best]) {
+                    best = r;
+                }
+            }
+            sequence = tours[best];
+        }
+        return stitch(map, stops, sequence, profile);
+    }
+
+    /**
+     * Walks the legs of a tour and joins their paths
+     */
+    private static Tour stitch(CampusMap map, List<Node> stops, int[] sequence, RoutingProfile profile) {
+        SearchOptions options = SearchOptions.DEFAULT.withProfile(profile);
+        List<Node> path = new ArrayList<>();
+        double[] legs = new double[sequence.length - 1];
+        path.add(stops.get(sequence[0]));
+        for (int i = 0; i < legs.length; i++) {
+            Pathfinder.PathResult leg = Pathfinder.aStarSearch(stops.get(sequence[i]), stops.get(sequence[i + 1]),
+                    map, options);
+            if (leg.getPath().isEmpty()) {
+                // An edge closed since the distances were computed
+                return new Tour(sequence, stops, Collections.emptyList(), new double[0], false);
+            }
+            path.addAll(leg.getPath().subList(1, leg.getPath().size()));
+            legs[i] = leg.getDistance();
+        }
+        return new Tour(sequence, stops, path, legs, true);
+    }
+
+    /**
+     * Builds a starting tour and improves it until no move helps
+     *
+     * @param distances stop-to-stop distances, row-major
+     * @param n number of stops
+     * @param fixed the tour in input order, whose ends stay in place
+     * @param restart restart number, 0 for the greedy start
+     * @return the improved tour
+     */
+    static int[] search(double[] distances, int n, int[] fixed, int restart) {
+        int[] tour = fixed.clone();
+        int last = tour.length - 1;
+        if (restart == 0) {
+            // Nearest unvisited stop next
+            for (int i = 1; i < last; i++) {
+                int nearest = i;
+                for (int j = i + 1; j < last; j++) {
+                    if (distances[tour[i - 1] * n + tour[j]] < distances[tour[i - 1] * n + tour[nearest]]) {
+                        nearest = j;
+                    }
+                }
+                swap(tour, i, nearest);
+            }
+        } else {
+            Random random = new Random(SEED + restart);
+            for (int i = last - 1; i > 1; i--) {
+                swap(tour, i, 1 + random.nextInt(i));
+            }
+        }
+        while (twoOpt(tour, distances, n) | orOpt(tour, distances, n)) {
+            // Repeat until neither kind of move finds a gain
+        }
+        return tour;
+    }
+
+    /**
+     * Reverses every segment whose reversal shortens the tour, in one sweep
+     *
+     * @return true if the tour changed
+     */
+    private static boolean twoOpt(int[] tour, double[] distances, int n) {
+        boolean improved = false;
+        for (int i = 1; i < tour.length - 2; i++) {
+            for (int j = i + 1; j < tour.length - 1; j++) {
+                double gain = distances[tour[i - 1] * n + tour[i]] + distances[tour[j] * n + tour[j + 1]]
+                        - distances[tour[i - 1] * n + tour[j]] - distances[tour[i] * n + tour[j + 1]];
+                if (gain > EPSILON) {
+                    reverse(tour, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Moves one run of up to MAX_SEGMENT stops, possibly reversed, to the
+     * place where it shortens the tour
+     *
+     * @return true if the tour changed
+     */
+    private static boolean orOpt(int[] tour, double[] distances, int n) {
+        int length = tour.length;
+        for (int k = 1; k <= MAX_SEGMENT; k++) {
+            for (int i = 1; i + k < length; i++) {
+                int first = tour[i];
+                int last = tour[i + k - 1];
+                int before = tour[i - 1];
+                int after = tour[i + k];
+                double removed = distances[before * n + first] + distances[last * n + after]
+                        - distances[before * n + after];
+                for (int q = 0; q < length - 1; q++) {
+                    if (q >= i - 1 && q <= i + k - 1) {
+                        continue;   // the run's own place
+                    }
+                    int a = tour[q];
+                    int b = tour[q + 1];
+                    double forward = distances[a * n + first] + distances[last * n + b] - distances[a * n + b];
+                    double reversed = distances[a * n + last] + distances[first * n + b] - distances[a * n + b];
+                    if (removed - Math.min(forward, reversed) > EPSILON) {
+                        move(tour, i, k, q, reversed < forward);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes the k stops from index i out of the tour and puts them back
+     * between the stops now at q and q + 1
+     */
+    private static void move(int[] tour, int i, int k, int q, boolean reversed) {
+        int[] run = Arrays.copyOfRange(tour, i, i + k);
+        if (reversed) {
+            reverse(run, 0, k - 1);
+        }
+        if (q < i) {
+            System.arraycopy(tour, q + 1, tour, q + 1 + k, i - q - 1);
+            System.arraycopy(run, 0, tour, q + 1, k);
+        } else {
+            System.arraycopy(tour, i + k, tour, i, q + 1 - i - k);
+            System.arraycopy(run, 0, tour, q + 1 - k, k);
+        }
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        for (int i = from, j = to; i < j; i++, j--) {
+            swap(values, i, j);
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int t = values[i];
+        values[i] = values[j];
+        values[j] = t;
+    }
+
+    /**
+     * Length of a tour over the distance table
+     */
+    static double cost(int[] tour, double[] distances, int n) {
+        double cost = 0;
+        for (int i = 0; i + 1 < tour.length; i++) {
+            cost += distances[tour[i] * n + tour[i + 1]];
+        }
+        return cost;
+    }
+
+    /**
+     * Runs a range of restarts, splitting it in halves until one is left
+     */
+    private static final class Restarts extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] distances;
+        private final int n;
+        private final int[] fixed;
+        private final int[][] tours;        // improved tour of each restart
+        private final double[] costs;       // its length
+        private final int from;
+        private final int to;
+
+        Restarts(double[] distances, int n, int[] fixed, int[][] tours, double[] costs, int from, int to) {
+            this.distances = distances;
+            this.n = n;
+            this.fixed = fixed;
+            this.tours = tours;
+            this.costs = costs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Restarts(distances, n, fixed, tours, costs, from, middle),
+                        new Restarts(distances, n, fixed, tours, costs, middle, to));
+                return;
+            }
+            tours[from] = search(distances, n, fixed, from);
+            costs[from] = cost(tours[from], distances, n);
+        }
+    }
+
+    /**
+     * A planned tour: the order the stops are visited in and the stitched
+     * path through them
+     */
+    public static final class Tour {
+
+        private final int[] order;          // stop indices in visiting order
+        private final List<Node> stops;     // stops as given
+        private final List<Node> path;      // every node walked, start to end
+        private final double[] legs;        // distance of each leg
+        private final boolean found;
+
+        private Tour(int[] order, List<Node> stops, List<Node> path, double[] legs, boolean found) {
+            this.order = order;
+            this.stops = stops;
+            this.path = path;
+            this.legs = legs;
+            this.found = found;
+        }
+
+        /**
+         * Checks whether every stop could be reached
+         *
+         * @return true if the tour has a path
+         */
+        public boolean isFound() {
+            return found;
+        }
+
+        /**
+         * Gets the visiting order as indices into the stops given; a round
+         * trip ends with the first stop again. The array is the tour's own
+         * storage and is not copied.
+         *
+         * @return stop indices in visiting order
+         */
+        public int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * Gets the stops in visiting order
+         *
+         * @return stop nodes
+         */
+        public List<Node> getStops() {
+            List<Node> visited = new ArrayList<>(order.length);
+            for (int index : order) {
+                visited.add(stops.get(index));
+            }
+            return visited;
+        }
+
+        /**
+         * Gets every node walked, from the first stop to the last
+         *
+         * @return the path, empty if the tour was not found
+         */
+        public List<Node> getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the total walking distance
+         *
+         * @return distance in meters, 0 if the tour was not found
+         */
+        public double getDistance() {
+            double distance = 0;
+            for (double leg : legs) {
+                distance += leg;
+            }
+            return distance;
+        }
+
+        /**
+         * Gets the distance of one leg, from the stop at position i of the
+         * order to the next
+         *
+         * @param i leg index below getOrder().length - 1
+         * @return distance in meters
+         */
+        public double getLegDistance(int i) {
+            return legs[i];
+        }
+
+        /**
+         * Gets the path in compact form for caching or sending
+         *
+         * @return the encoded route
+         */
+        public EncodedRoute getRoute() {
+            int[] ids = new int[path.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = path.get(i).getId();
+            }
+            return EncodedRoute.of(path, ids, getDistance());
+        }
+    }
+}
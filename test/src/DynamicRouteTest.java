@@ -0,0 +1,119 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that DynamicRoute, after edge updates and after an interrupted
+ * call, returns the same distance as a fresh A* search on the same map
+ * version.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+class DynamicRouteTest {
+
+    private static final int PAIR_COUNT = 20;
+    private static final int MIN_SETTLED = 2048;    // enough work to reach a cancellation check mid-search
+    private static final long SEED = 1913L;
+
+    private CampusMap map;
+
+    @BeforeEach
+    void loadMap() throws Exception {
+        // Each test changes edges, so each gets its own map
+        map = new CampusMap();
+        try (Reader reader = new InputStreamReader(
+                DynamicRouteTest.class.getResourceAsStream("/graphUpdated.json"), StandardCharsets.UTF_8)) {
+            map.loadFromJson(reader);
+        }
+    }
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void closeAndRestoreMatchFullSearch() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            Node[] pair = longPair(random);
+            DynamicRoute route = new DynamicRoute(map, pair[0], pair[1]);
+            assertMatchesSearch(route, pair, "initial");
+
+            List<Node> path = route.route().getPath();
+            Node from = path.get(path.size() / 2 - 1);
+            Node to = path.get(path.size() / 2);
+            map.closeEdge(from.getId(), to.getId());
+            assertMatchesSearch(route, pair, "closed");
+
+            map.restoreEdge(from.getId(), to.getId());
+            assertMatchesSearch(route, pair, "restored");
+        }
+    }
+
+    @Test
+    void interruptedRouteResumes() {
+        Random random = new Random(SEED + 1);
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            Node[] pair = longPair(random);
+            DynamicRoute route = new DynamicRoute(map, pair[0], pair[1]);
+
+            Thread.currentThread().interrupt();
+            assertThrows(CancellationException.class, route::route);
+            Thread.interrupted();
+            assertMatchesSearch(route, pair, "after first interrupt");
+
+            // Cancel a repair as well as a first search
+            List<Node> path = route.route().getPath();
+            Node from = path.get(path.size() / 3);
+            Node to = path.get(path.size() / 3 + 1);
+            map.closeEdge(from.getId(), to.getId());
+            Thread.currentThread().interrupt();
+            try {
+                route.route();
+            } catch (CancellationException e) {
+                // a repair too small to reach a check finishes instead
+            }
+            Thread.interrupted();
+            assertMatchesSearch(route, pair, "after interrupted repair");
+            map.restoreEdge(from.getId(), to.getId());
+        }
+    }
+
+    /**
+     * Picks two nodes whose shortest route takes a search of at least
+     * MIN_SETTLED nodes
+     */
+    private Node[] longPair(Random random) {
+        SearchOptions options = SearchOptions.DEFAULT.withHeuristic(SearchOptions.HeuristicType.HAVERSINE);
+        while (true) {
+            Node start = map.getNode(random.nextInt(map.getNodeCount()));
+            Node goal = map.getNode(random.nextInt(map.getNodeCount()));
+            Pathfinder.PathResult result = Pathfinder.aStarSearch(start, goal, map, options);
+            if (result.getPath().size() >= 4 && result.getSettledNodes() >= MIN_SETTLED) {
+                return new Node[] {start, goal};
+            }
+        }
+    }
+
+    private void assertMatchesSearch(DynamicRoute route, Node[] pair, String when) {
+        Pathfinder.PathResult actual = route.route();
+        Pathfinder.PathResult expected = Pathfinder.aStarSearch(pair[0], pair[1], map);
+        String message = when + ", from " + pair[0].getId() + " to " + pair[1].getId();
+        assertEquals(expected.getDistance(), actual.getDistance(), 1e-6, message);
+        assertEquals(expected.getPath().isEmpty(), actual.getPath().isEmpty(), message);
+    }
+}
@@ -0,0 +1,74 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Round-trips graphUpdated.json through a binary snapshot and checks that
+ * the reloaded graph is the same graph: CSR offsets, targets and weights,
+ * node coordinates and attributes, arc attributes and edge count.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+class GraphSnapshotTest {
+
+    private static CampusMap map;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void loadMap() throws Exception {
+        map = new CampusMap();
+        try (Reader reader = new InputStreamReader(
+                GraphSnapshotTest.class.getResourceAsStream("/graphUpdated.json"), StandardCharsets.UTF_8)) {
+            map.loadFromJson(reader);
+        }
+    }
+
+    @Test
+    void snapshotReadsBackTheSameGraph() throws Exception {
+        Path file = directory.resolve("campus.snapshot");
+        map.saveSnapshot(file);
+        assertSameGraph(map.getGraph(), GraphSnapshot.read(file));
+    }
+
+    @Test
+    void snapshotReloadsIntoTheSameMap() throws Exception {
+        Path file = directory.resolve("campus.snapshot");
+        map.saveSnapshot(file);
+        CampusMap reloaded = new CampusMap();
+        reloaded.load(file);
+
+        assertEquals(map.getNodeCount(), reloaded.getNodeCount());
+        assertEquals(map.getEdges().size(), reloaded.getEdges().size());
+        assertSameGraph(map.getGraph(), reloaded.getGraph());
+    }
+
+    private static void assertSameGraph(CsrGraph expected, CsrGraph actual) {
+        assertEquals(expected.nodeCount(), actual.nodeCount(), "node count");
+        assertEquals(expected.arcCount(), actual.arcCount(), "arc count");
+        for (int u = 0; u < expected.nodeCount(); u++) {
+            assertEquals(expected.firstArc(u), actual.firstArc(u), "offset of " + u);
+            assertEquals(expected.latitude(u), actual.latitude(u), 0.0, "latitude of " + u);
+            assertEquals(expected.longitude(u), actual.longitude(u), 0.0, "longitude of " + u);
+            assertEquals(expected.attributes(u), actual.attributes(u), "attributes of " + u);
+        }
+        assertEquals(expected.endArc(expected.nodeCount() - 1), actual.endArc(actual.nodeCount() - 1),
+                "last offset");
+        for (int arc = 0; arc < expected.arcCount(); arc++) {
+            assertEquals(expected.target(arc), actual.target(arc), "target of " + arc);
+            assertEquals(expected.weight(arc), actual.weight(arc), 0.0, "weight of " + arc);
+            assertEquals(expected.arcAttributes(arc), actual.arcAttributes(arc), "attributes of arc " + arc);
+        }
+    }
+}
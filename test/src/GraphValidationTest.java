@@ -0,0 +1,105 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that loading keeps every edge weight usable by the searches: edges
+ * with a negative or missing weight are dropped, weights below the
+ * straight-line bound are raised to it, and both are reported.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+class GraphValidationTest {
+
+    // Nodes about 111 meters apart along a meridian, chained 0 - 1 - 2 - 3 - 4
+    private static final String DOCUMENT = "{\"nodes\": ["
+            + "{\"coordinates\": \"37.000,-80.0\"}, {\"coordinates\": \"37.001,-80.0\"},"
+            + "{\"coordinates\": \"37.002,-80.0\"}, {\"coordinates\": \"37.003,-80.0\"},"
+            + "{\"coordinates\": \"37.004,-80.0\"}],"
+            + "\"edges\": ["
+            + "{\"from\": \"37.000,-80.0\", \"to\": \"37.001,-80.0\", \"weight\": 120},"
+            + "{\"from\": \"37.001,-80.0\", \"to\": \"37.002,-80.0\", \"weight\": 50},"
+            + "{\"from\": \"37.002,-80.0\", \"to\": \"37.003,-80.0\", \"weight\": -5},"
+            + "{\"from\": \"37.003,-80.0\", \"to\": \"37.004,-80.0\"}]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void invalidWeightsAreDroppedAndShortOnesRaised() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJson(new StringReader(DOCUMENT));
+        GraphValidation report = map.getValidationReport();
+
+        assertEquals(2, report.getEdges());
+        assertEquals(2, report.getInvalidWeights());
+        assertEquals(1, report.getRaisedWeights());
+        assertFalse(report.isClean());
+        assertWeightsAdmissible(map.getGraph());
+
+        int a = map.findNearestNode(37.001, -80.0).getId();
+        int b = map.findNearestNode(37.002, -80.0).getId();
+        assertEquals(Heuristic.shortestEdge(map.getGraph(), a, b), map.getEdgeWeight(a, b), 0.0);
+    }
+
+    @Test
+    void raisedEdgeCanBeClosedAndRestored() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJson(new StringReader(DOCUMENT));
+        int a = map.findNearestNode(37.001, -80.0).getId();
+        int b = map.findNearestNode(37.002, -80.0).getId();
+        double loaded = map.getEdgeWeight(a, b);
+
+        map.closeEdge(a, b);
+        map.restoreEdge(a, b);
+        assertEquals(loaded, map.getEdgeWeight(a, b), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> map.setEdgeWeight(a, b, loaded / 2));
+    }
+
+    @Test
+    void campusDataNeedsNoRepair() throws Exception {
+        CampusMap map = new CampusMap();
+        try (Reader reader = new InputStreamReader(
+                GraphValidationTest.class.getResourceAsStream("/graphUpdated.json"), StandardCharsets.UTF_8)) {
+            map.loadFromJson(reader);
+        }
+        assertEquals(0, map.getValidationReport().getInvalidWeights());
+        assertEquals(0, map.getValidationReport().getRaisedWeights());
+        assertWeightsAdmissible(map.getGraph());
+    }
+
+    @Test
+    void snapshotKeepsRaisedWeights() throws Exception {
+        CampusMap map = new CampusMap();
+        map.loadFromJson(new StringReader(DOCUMENT));
+        Path file = directory.resolve("short.snapshot");
+        map.saveSnapshot(file);
+
+        CampusMap reloaded = new CampusMap();
+        reloaded.load(file);
+        assertEquals(0, reloaded.getValidationReport().getRaisedWeights());
+        assertWeightsAdmissible(reloaded.getGraph());
+    }
+
+    private static void assertWeightsAdmissible(CsrGraph graph) {
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int arc = graph.firstArc(u), end = graph.endArc(u); arc < end; arc++) {
+                assertTrue(graph.weight(arc) >= Heuristic.shortestEdge(graph, u, graph.target(arc)),
+                        "arc " + arc + " from " + u);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package src;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks every open list type against a baseline A* on graphUpdated.json:
+ * the textbook search over the map's Edge objects with a
+ * java.util.PriorityQueue and lazy deletion, sharing none of the
+ * Pathfinder's workspace or heap code. Seeded origin/destination pairs
+ * must get the same distance and the same node sequence.
+ *
+ * @author cbrodish03 hosamk Zachvhincent
+ * @version 10/18/2026
+ */
+class OpenListRegressionTest {
+
+    private static final int PAIR_COUNT = 300;
+    private static final long SEED = 4804L;
+
+    private static CampusMap map;
+    private static List<List<Edge>> incident;  // edges touching each node id
+
+    @BeforeAll
+    static void loadMap() throws Exception {
+        map = new CampusMap();
+        try (Reader reader = new InputStreamReader(
+                OpenListRegressionTest.class.getResourceAsStream("/graphUpdated.json"), StandardCharsets.UTF_8)) {
+            map.loadFromJson(reader);
+        }
+        incident = new ArrayList<>();
+        for (int i = 0; i < map.getNodeCount(); i++) {
+            incident.add(new ArrayList<>());
+        }
+        for (Edge edge : map.getEdges()) {
+            incident.get(edge.getFirstNode().getId()).add(edge);
+            incident.get(edge.getSecondNode().getId()).add(edge);
+        }
+    }
+
+    @Test
+    void priorityQueueMatchesBaseline() {
+        checkAgainstBaseline(SearchOptions.OpenListType.PRIORITY_QUEUE);
+    }
+
+    @Test
+    void binaryHeapMatchesBaseline() {
+        checkAgainstBaseline(SearchOptions.OpenListType.BINARY_HEAP);
+    }
+
+    @Test
+    void quaternaryHeapMatchesBaseline() {
+        checkAgainstBaseline(SearchOptions.OpenListType.QUATERNARY_HEAP);
+    }
+
+    private static void checkAgainstBaseline(SearchOptions.OpenListType type) {
+        SearchOptions options = SearchOptions.DEFAULT.withOpenList(type);
+        Random random = new Random(SEED);
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            Node start = map.getNode(random.nextInt(map.getNodeCount()));
+            Node goal = map.getNode(random.nextInt(map.getNodeCount()));
+            Pathfinder.PathResult expected = baseline(start, goal);
+            Pathfinder.PathResult actual = Pathfinder.aStarSearch(start, goal, map, options);
+            String pair = type + " from " + start.getId() + " to " + goal.getId();
+            assertEquals(expected.getDistance(), actual.getDistance(), 1e-6, pair);
+            assertArrayEquals(expected.getNodeIds(), actual.getNodeIds(), pair);
+        }
+    }
+
+    /**
+     * Baseline A*: queue entries are {estimate, node id}, and stale entries
+     * are skipped when polled instead of being updated in place
+     */
+    private static Pathfinder.PathResult baseline(Node start, Node goal) {
+        int nodeCount = map.getNodeCount();
+        double[] cost = new double[nodeCount];
+        int[] parent = new int[nodeCount];
+        boolean[] closed = new boolean[nodeCount];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        PriorityQueue<double[]> open = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        cost[start.getId()] = 0;
+        open.add(new double[] {Pathfinder.calculateHeuristic(start, goal), start.getId()});
+        while (!open.isEmpty()) {
+            int current = (int) open.poll()[1];
+            if (closed[current]) {
+                continue;
+            }
+            if (current == goal.getId()) {
+                List<Node> path = new ArrayList<>();
+                for (int node = current; node >= 0; node = parent[node]) {
+                    path.add(0, map.getNode(node));
+                }
+                return new Pathfinder.PathResult(path, cost[current]);
+            }
+            closed[current] = true;
+            for (Edge edge : incident.get(current)) {
+                Node neighbor = edge.getFirstNode().getId() == current ? edge.getSecondNode() : edge.getFirstNode();
+                double tentative = cost[current] + edge.getWeight();
+                if (!closed[neighbor.getId()] && tentative < cost[neighbor.getId()]) {
+                    cost[neighbor.getId()] = tentative;
+                    parent[neighbor.getId()] = current;
+                    open.add(new double[] {tentative + Pathfinder.calculateHeuristic(neighbor, goal),
+                            neighbor.getId()});
+                }
+            }
+        }
+        return new Pathfinder.PathResult(List.of(), 0.0);
+    }
+}